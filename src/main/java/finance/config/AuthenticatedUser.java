@@ -1,5 +1,7 @@
 package finance.config;
 
+import java.util.Optional;
+
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -16,4 +18,13 @@ public class AuthenticatedUser {
         }
         return (Long) auth.getPrincipal();
     }
+
+    // para código que também roda fora de requisições (agendadores, infraestrutura)
+    public static Optional<Long> findAuthenticatedUserId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || !(auth.getPrincipal() instanceof Long userId)) {
+            return Optional.empty();
+        }
+        return Optional.of(userId);
+    }
 }
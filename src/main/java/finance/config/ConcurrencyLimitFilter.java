@@ -0,0 +1,168 @@
+package finance.config;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Load shedding por grupo de endpoints. Cada grupo tem um GradientLimit que
+ * se ajusta pela latência medida; acima do limite a requisição volta na hora
+ * com 503, antes do JWTFilter e de qualquer acesso ao banco, e o servidor
+ * mantém a vazão em vez de enfileirar até estourar threads e conexões.
+ *
+ * Limites por grupo: finance.limits.<grupo>.initial / .min / .max
+ * (grupos: auth, reads, writes, reports, admin). Os relatórios têm grupo
+ * próprio: as latências longas deles não podem puxar para baixo o limite
+ * calculado para as leituras comuns.
+ */
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    public enum Group {
+        AUTH(20, 4, 100), READS(50, 8, 400), WRITES(30, 4, 200), REPORTS(20, 2, 40), ADMIN(4, 1, 20);
+
+        final int initial;
+        final int min;
+        final int max;
+
+        Group(int initial, int min, int max) {
+            this.initial = initial;
+            this.min = min;
+            this.max = max;
+        }
+
+        String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final boolean enabled;
+    private final Map<Group, GradientLimit> limits = new EnumMap<>(Group.class);
+    private final Map<Group, Counter> rejected = new EnumMap<>(Group.class);
+
+    public ConcurrencyLimitFilter(Environment env, MeterRegistry registry) {
+        this.enabled = env.getProperty("finance.limits.enabled", Boolean.class, true);
+        int window = env.getProperty("finance.limits.long-window", Integer.class, 600);
+        for (Group group : Group.values()) {
+            String prefix = "finance.limits." + group.key();
+            GradientLimit limit = new GradientLimit(
+                    env.getProperty(prefix + ".initial", Integer.class, group.initial),
+                    env.getProperty(prefix + ".min", Integer.class, group.min),
+                    env.getProperty(prefix + ".max", Integer.class, group.max),
+                    window);
+            limits.put(group, limit);
+            Gauge.builder("finance.limits.limit", limit, GradientLimit::getLimit)
+                    .tag("group", group.key()).register(registry);
+            Gauge.builder("finance.limits.in-flight", limit, GradientLimit::getInFlight)
+                    .tag("group", group.key()).register(registry);
+            rejected.put(group, Counter.builder("finance.limits.rejected")
+                    .tag("group", group.key()).register(registry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        Group group = classify(request);
+        GradientLimit limit = limits.get(group);
+        if (!limit.tryAcquire()) {
+            rejected.get(group).increment();
+            reject(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            async = request.isAsyncStarted();
+        } finally {
+            if (async) {
+                // DeferredResult/Callable: a vaga só é liberada quando a resposta termina
+                request.getAsyncContext().addListener(new Release(limit, start));
+            } else {
+                limit.onComplete(System.nanoTime() - start);
+            }
+        }
+    }
+
+    static Group classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/auth")) {
+            return Group.AUTH;
+        }
+        if (path.startsWith("/admin") || path.startsWith("/actuator")) {
+            return Group.ADMIN;
+        }
+        if (path.startsWith("/api/reports")) {
+            return Group.REPORTS;
+        }
+        String method = request.getMethod();
+        if (HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method)) {
+            return Group.READS;
+        }
+        return Group.WRITES;
+    }
+
+    // mesmo formato do ErrorResponse do GlobalControllerExceptionHandler, escrito à mão para ser barato
+    private static void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader("Retry-After", "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"timestamp\":\"" + LocalDateTime.now()
+                + "\",\"status\":503,\"error\":\"Service Unavailable\""
+                + ",\"message\":\"Servidor sobrecarregado, tente novamente em instantes\""
+                + ",\"path\":\"" + request.getRequestURI().replace("\"", "") + "\""
+                + ",\"errorCode\":\"SERVER_OVERLOADED\"}");
+    }
+
+    private record Release(GradientLimit limit, long start) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            limit.onComplete(System.nanoTime() - start);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package finance.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+@Configuration
+public class ExecutorConfig {
+
+    // pool limitado para as consultas paralelas do dashboard; com a fila cheia
+    // a própria thread da requisição executa a tarefa (back-pressure)
+    @Bean(name = "dashboardExecutor")
+    public ThreadPoolTaskExecutor dashboardExecutor(
+            @Value("${finance.dashboard.pool-size:8}") int poolSize,
+            @Value("${finance.dashboard.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    // bulkhead dos relatórios pesados: threads próprias e fila curta; cheia, rejeita
+    // em vez de ocupar as threads de requisição que atendem o CRUD
+    @Bean(name = "reportsExecutor")
+    public ThreadPoolTaskExecutor reportsExecutor(
+            @Value("${finance.reports.pool-size:2}") int poolSize,
+            @Value("${finance.reports.queue-capacity:20}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("reports-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        // leva o usuário autenticado da requisição para a thread do relatório
+        executor.setTaskDecorator(DelegatingSecurityContextRunnable::new);
+        executor.initialize();
+        return executor;
+    }
+
+    // thread do job de insights disparado pelo endpoint administrativo; uma execução
+    // por vez, e o shutdown interrompe o job, que é retomado do checkpoint
+    @Bean(name = "insightsJobExecutor")
+    public ThreadPoolTaskExecutor insightsJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("insights-job-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
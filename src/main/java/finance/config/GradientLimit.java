@@ -0,0 +1,79 @@
+package finance.config;
+
+/**
+ * Limite de concorrência adaptativo no estilo Gradient2: compara a latência
+ * de longo prazo (média exponencial, a referência "sem fila") com a latência
+ * de cada amostra. Se as amostras ficam mais lentas que a referência, o
+ * gradiente cai abaixo de 1 e o limite encolhe; quando voltam ao normal, o
+ * limite cresce aos poucos (mais sqrt(limite) de folga para fila).
+ *
+ * Thread-safe; as atualizações são serializadas e custam poucas operações
+ * aritméticas por requisição.
+ */
+public class GradientLimit {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double TOLERANCE = 1.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double longWindowAlpha;
+
+    private double limit;
+    private double longRtt;
+    private int inFlight;
+
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit, int longWindow) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.longWindowAlpha = 2.0 / (longWindow + 1);
+    }
+
+    // false = sem vaga; a requisição deve ser rejeitada sem chamar onComplete
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    public synchronized void onComplete(long rttNanos) {
+        int concurrent = inFlight;
+        inFlight--;
+        if (rttNanos <= 0) {
+            return;
+        }
+
+        double rtt = rttNanos;
+        if (longRtt == 0) {
+            longRtt = rtt;
+            return;
+        }
+        longRtt = longRtt * (1 - longWindowAlpha) + rtt * longWindowAlpha;
+        // depois de um pico longo a referência fica inflada; deixa ela voltar rápido
+        if (longRtt / rtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        // aplicação ociosa não é sinal de que o limite pode subir
+        if (concurrent < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / rtt));
+        double queueSize = Math.sqrt(limit);
+        double target = limit * gradient + queueSize;
+        double next = limit * (1 - SMOOTHING) + target * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+}
@@ -0,0 +1,65 @@
+package finance.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Só ativa com finance.replica.url preenchida; sem ela o DataSource continua
+ * sendo o autoconfigurado pelo Boot. Os dois pools não são candidatos à
+ * injeção por tipo: o resto da aplicação (JPA, Flyway, JdbcTemplate) recebe
+ * o DataSource roteado. O gerenciador de transações evita que leituras da
+ * réplica alimentem o cache L2.
+ */
+@Configuration
+@ConditionalOnExpression("!'${finance.replica.url:}'.isBlank()")
+public class ReplicaDataSourceConfig {
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(defaultCandidate = false)
+    public HikariDataSource replicaDataSource(@Value("${finance.replica.url}") String url,
+            @Value("${finance.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${finance.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${finance.replica.pool-size:10}") int poolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primary,
+            @Qualifier("replicaDataSource") HikariDataSource replica,
+            ReplicaStickiness stickiness) {
+        return ReplicaRoutingDataSource.routing(primary, replica, stickiness);
+    }
+
+    @Bean
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new ReplicaAwareTransactionManager(entityManagerFactory);
+    }
+}
@@ -0,0 +1,42 @@
+package finance.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Destino das transações read-only: a réplica, exceto quando o usuário
+ * corrente escreveu há pouco (ReplicaStickiness), caso em que volta ao primário.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaStickiness stickiness;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaStickiness stickiness) {
+        this.stickiness = stickiness;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(replica);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return stickiness.isSticky() ? Target.PRIMARY : Target.REPLICA;
+    }
+
+    /**
+     * DataSource exposto à aplicação. O proxy só abre a conexão física no
+     * primeiro comando, quando o readOnly da transação (@Transactional(readOnly = true))
+     * já é conhecido; transações de escrita e código sem transação vão ao primário.
+     */
+    public static DataSource routing(DataSource primary, DataSource replica, ReplicaStickiness stickiness) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, replica, stickiness));
+        return proxy;
+    }
+}
@@ -0,0 +1,54 @@
+package finance.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Janela de read-your-writes: depois de uma escrita confirmada, as leituras
+ * read-only do mesmo usuário ficam no primário por sticky-ms, tempo que deve
+ * cobrir o atraso de replicação.
+ *
+ * Estado em memória, por instância: a garantia só vale quando a leitura cai
+ * no mesmo nó da escrita. Com várias instâncias sem afinidade por usuário no
+ * balanceador, a leitura em outro nó vai à réplica e pode não ver a escrita
+ * por até o atraso de replicação. Os ETags continuam corretos nesse caso,
+ * porque a versão é lida da mesma réplica que o corpo (DataVersionTable.read).
+ */
+@Component
+public class ReplicaStickiness {
+
+    private static final int PRUNE_THRESHOLD = 10_000;
+
+    private final long windowMs;
+    private final Map<Long, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReplicaStickiness(@Value("${finance.replica.sticky-ms:5000}") long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    // marca quem escreveu (usuário autenticado) e o dono dos dados, quando diferentes
+    public void recordWrite(Long ownerId) {
+        if (windowMs <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (stickyUntil.size() > PRUNE_THRESHOLD) {
+            stickyUntil.values().removeIf(until -> until <= now);
+        }
+        AuthenticatedUser.findAuthenticatedUserId().ifPresent(writer -> stickyUntil.put(writer, now + windowMs));
+        if (ownerId != null) {
+            stickyUntil.put(ownerId, now + windowMs);
+        }
+    }
+
+    // sem usuário autenticado (agendadores, relatórios sem contexto) nunca é sticky
+    public boolean isSticky() {
+        return AuthenticatedUser.findAuthenticatedUserId()
+                .map(stickyUntil::get)
+                .map(until -> until > System.currentTimeMillis())
+                .orElse(false);
+    }
+}
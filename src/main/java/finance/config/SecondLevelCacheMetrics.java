@@ -0,0 +1,60 @@
+package finance.config;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import finance.domain.user.User;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Acertos, erros e taxa de acerto do cache L2 por região, a partir das
+ * estatísticas do Hibernate (hibernate.generate_statistics). Consultar em
+ * /actuator/metrics/finance.cache.l2.hit.ratio?tag=region:...
+ */
+@Component
+public class SecondLevelCacheMetrics {
+
+    // Account fica fora do L2 (saldo escrito por todos os nós); só User é cacheado
+    private static final List<String> REGIONS = List.of(User.CACHE_REGION);
+
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory, MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (String region : REGIONS) {
+            FunctionCounter.builder("finance.cache.l2.requests", statistics,
+                    s -> hits(s, region))
+                    .tag("region", region).tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("finance.cache.l2.requests", statistics,
+                    s -> misses(s, region))
+                    .tag("region", region).tag("result", "miss")
+                    .register(registry);
+            Gauge.builder("finance.cache.l2.hit.ratio", statistics, s -> hitRatio(s, region))
+                    .tag("region", region)
+                    .description("acertos / (acertos + erros) desde a subida")
+                    .register(registry);
+        }
+    }
+
+    private static long hits(Statistics statistics, String region) {
+        CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+        return stats == null ? 0 : stats.getHitCount();
+    }
+
+    private static long misses(Statistics statistics, String region) {
+        CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+        return stats == null ? 0 : stats.getMissCount();
+    }
+
+    private static double hitRatio(Statistics statistics, String region) {
+        long hits = hits(statistics, region);
+        long total = hits + misses(statistics, region);
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
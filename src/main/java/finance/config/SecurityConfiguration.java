@@ -1,5 +1,7 @@
 package finance.config;
 
+import jakarta.servlet.DispatcherType;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -22,9 +24,11 @@ import org.springframework.web.servlet.handler.HandlerMappingIntrospector;
 public class SecurityConfiguration {
     
     private final JWTFilter jwtFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
 
-    public SecurityConfiguration(JWTFilter jwtFilter) {
+    public SecurityConfiguration(JWTFilter jwtFilter, ConcurrencyLimitFilter concurrencyLimitFilter) {
         this.jwtFilter = jwtFilter;
+        this.concurrencyLimitFilter = concurrencyLimitFilter;
     }
     
    @Bean
@@ -42,9 +46,14 @@ public SecurityFilterChain securityFilterChain(HttpSecurity http,HandlerMappingI
                 req.requestMatchers("/").permitAll();
                 req.requestMatchers("/swagger-ui/**","/v3/api-docs/**").permitAll();
                 req.requestMatchers(HttpMethod.OPTIONS,"/**").permitAll();
+                // despacho de conclusão do DeferredResult; a requisição original já foi autorizada
+                req.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
+                req.requestMatchers("/actuator/metrics/**").hasRole("ADMIN");
                 req.anyRequest().authenticated();
             })
             .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+            // rejeita excesso antes da validação do token (que consulta o banco)
+            .addFilterBefore(concurrencyLimitFilter, JWTFilter.class)
             .build();
 }
 
@@ -0,0 +1,28 @@
+package finance.controllers;
+
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * If-None-Match das listagens com ETag. Diferente de WebRequest.checkNotModified
+ * sozinho, não grava o ETag na resposta quando ele não casa: nesse caso o ETag
+ * certo é o da versão lida junto com o corpo, que pode ser outro.
+ */
+final class ConditionalRequests {
+
+    private ConditionalRequests() {
+    }
+
+    static boolean notModified(WebRequest request, String etag) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        ETag current = ETag.create(etag);
+        boolean matches = ETag.parse(ifNoneMatch).stream()
+                .anyMatch(tag -> tag.compare(current, false));
+        // casou: checkNotModified monta o 304 com o ETag
+        return matches && request.checkNotModified(etag);
+    }
+}
@@ -2,7 +2,9 @@ package finance.controllers;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,20 +14,29 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import finance.config.AuthenticatedUser;
+import finance.config.ContentNegotiationConfig;
 
 import finance.domain.dto.accounts.AccountCreateDTO;
 import finance.domain.dto.accounts.AccountResponseDTO;
 import finance.domain.dto.accounts.AccountUpdateDTO;
+import finance.services.DataVersionTable;
+import finance.services.DataVersionTable.Versioned;
 import finance.services.ServiceAccount;
 import jakarta.validation.Valid;
 @RestController
-@RequestMapping("/accounts")
+@RequestMapping(value = "/accounts", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+        ContentNegotiationConfig.APPLICATION_SMILE_VALUE })
 public class ControllerAccount {
 
     private final ServiceAccount serviceAccount;
+    private final DataVersionTable dataVersionTable;
 
-    public ControllerAccount(ServiceAccount serviceAccount) {
+    public ControllerAccount(ServiceAccount serviceAccount, DataVersionTable dataVersionTable) {
         this.serviceAccount = serviceAccount;
+        this.dataVersionTable = dataVersionTable;
     }
 
 
@@ -36,8 +47,18 @@ public class ControllerAccount {
     }
 
     @GetMapping
-    public ResponseEntity<List<AccountResponseDTO>> getAllAccontsUser() {
-        return ResponseEntity.ok(serviceAccount.getAllAccountsUser());
+    public ResponseEntity<List<AccountResponseDTO>> getAllAccontsUser(WebRequest request) {
+        // If-None-Match com a versão atual responde 304 sem consultar contas
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+        String variant = ContentNegotiationConfig.variantOf(request.getHeader(HttpHeaders.ACCEPT));
+        if (ConditionalRequests.notModified(request, dataVersionTable.etag(userId, variant))) {
+            return null;
+        }
+        // o ETag da resposta é o da versão lida junto com o corpo, não o da memória
+        Versioned<List<AccountResponseDTO>> accounts = serviceAccount.getAllAccountsUser();
+        return ResponseEntity.ok().eTag(dataVersionTable.etag(userId, accounts.version(), variant))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(accounts.body());
     }
 
     @GetMapping("/{id}")
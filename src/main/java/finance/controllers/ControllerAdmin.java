@@ -1,21 +1,40 @@
 package finance.controllers;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.web.PageableDefault;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import finance.domain.acounts.AccountType;
+import finance.domain.dto.accounts.AccountBulkDeleteDTO;
+import finance.domain.dto.accounts.AccountBulkPatchDTO;
+import finance.domain.dto.accounts.AccountFilterDTO;
+import finance.domain.dto.accounts.AccountKeysetPageDTO;
+import finance.domain.dto.accounts.AccountPurgeResponseDTO;
 import finance.domain.dto.accounts.AccountResponseDTO;
 import finance.domain.dto.accounts.AccountUpdateDTO;
+import finance.domain.dto.accounts.BulkOperationResultDTO;
+import finance.domain.dto.fx.FxRatesResponseDTO;
+import finance.domain.dto.metrics.AdminMetricsSummaryDTO;
+import finance.domain.dto.metrics.DailyVolumeDTO;
+import finance.services.FxRateTable;
+import finance.services.InsightsJob;
+import finance.services.PriceSeriesStore;
 import finance.services.ServiceAdmin;
+import finance.services.ServiceAdminMetrics;
+import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/admin")
@@ -23,9 +42,18 @@ import finance.services.ServiceAdmin;
 public class ControllerAdmin {
 
     private final ServiceAdmin serviceAdmin;
+    private final ServiceAdminMetrics serviceAdminMetrics;
+    private final InsightsJob insightsJob;
+    private final FxRateTable fxRateTable;
+    private final PriceSeriesStore priceSeriesStore;
 
-    public ControllerAdmin(ServiceAdmin serviceAdmin) {
+    public ControllerAdmin(ServiceAdmin serviceAdmin, ServiceAdminMetrics serviceAdminMetrics,
+            InsightsJob insightsJob, FxRateTable fxRateTable, PriceSeriesStore priceSeriesStore) {
         this.serviceAdmin = serviceAdmin;
+        this.serviceAdminMetrics = serviceAdminMetrics;
+        this.insightsJob = insightsJob;
+        this.fxRateTable = fxRateTable;
+        this.priceSeriesStore = priceSeriesStore;
     }
 
     @PatchMapping("/{id}")
@@ -41,11 +69,69 @@ public class ControllerAdmin {
     }
 
     @GetMapping("/accounts")
-    public ResponseEntity<Page<AccountResponseDTO>> getAllAccounts(
-            @PageableDefault(size = 10, page = 0) Pageable pageable) {
+    public ResponseEntity<AccountKeysetPageDTO> getAllAccounts(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) AccountType type,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo) {
+
+        AccountFilterDTO filter = new AccountFilterDTO(type, userId, createdFrom, createdTo);
+        return ResponseEntity.ok(serviceAdmin.getAllAccounts(filter, cursor, size));
+    }
+
+    @PostMapping("/accounts/bulk-patch")
+    public ResponseEntity<BulkOperationResultDTO> bulkPatch(@RequestBody @Valid AccountBulkPatchDTO data) {
+        return ResponseEntity.ok(serviceAdmin.bulkPatch(data));
+    }
+
+    @PostMapping("/accounts/bulk-delete")
+    public ResponseEntity<BulkOperationResultDTO> bulkDelete(@RequestBody AccountBulkDeleteDTO data) {
+        return ResponseEntity.ok(serviceAdmin.bulkDelete(data));
+    }
+
+    // progresso das exclusões de conta em andamento
+    @GetMapping("/accounts/purges")
+    public ResponseEntity<List<AccountPurgeResponseDTO>> getPendingPurges() {
+        return ResponseEntity.ok(serviceAdmin.getPendingPurges());
+    }
+
+    @GetMapping("/metrics")
+    public ResponseEntity<AdminMetricsSummaryDTO> getMetrics() {
+        return ResponseEntity.ok(serviceAdminMetrics.getSummary());
+    }
+
+    @GetMapping("/metrics/transactions")
+    public ResponseEntity<List<DailyVolumeDTO>> getDailyVolume(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(serviceAdminMetrics.getDailyVolume(from, to));
+    }
+
+    @GetMapping("/fx/rates")
+    public ResponseEntity<FxRatesResponseDTO> getFxRates() {
+        return ResponseEntity.ok(FxRatesResponseDTO.toDTO(fxRateTable.snapshot()));
+    }
+
+    // corpo em texto no formato do arquivo local: uma linha "MOEDA,TAXA" por moeda
+    @PostMapping(value = "/fx/rates", consumes = { "text/csv", "text/plain" })
+    public ResponseEntity<FxRatesResponseDTO> uploadFxRates(@RequestBody String csv) {
+        return ResponseEntity.ok(FxRatesResponseDTO.toDTO(fxRateTable.upload(csv)));
+    }
+
+    // relê os CSVs de preço sem esperar a recarga agendada
+    @PostMapping("/prices/reload")
+    public ResponseEntity<Void> reloadPrices() {
+        priceSeriesStore.reload();
+        return ResponseEntity.noContent().build();
+    }
 
-        Page<AccountResponseDTO> accounts = serviceAdmin.getAllAccounts(pageable);
-        return ResponseEntity.ok(accounts);
+    // inicia (ou retoma) o job de insights em segundo plano
+    @PostMapping("/insights/run")
+    public ResponseEntity<Void> runInsights() {
+        insightsJob.startAsync();
+        return ResponseEntity.accepted().build();
     }
 
 }
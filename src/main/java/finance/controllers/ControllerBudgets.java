@@ -0,0 +1,58 @@
+package finance.controllers;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import finance.domain.dto.budgets.BudgetCreateDTO;
+import finance.domain.dto.budgets.BudgetResponseDTO;
+import finance.domain.dto.budgets.BudgetUpdateDTO;
+import finance.services.ServiceBudgets;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/budgets")
+public class ControllerBudgets {
+
+    private final ServiceBudgets serviceBudgets;
+
+    public ControllerBudgets(ServiceBudgets serviceBudgets) {
+        this.serviceBudgets = serviceBudgets;
+    }
+
+    @PostMapping
+    public ResponseEntity<BudgetResponseDTO> createBudget(@RequestBody @Valid BudgetCreateDTO data) {
+        BudgetResponseDTO budget = serviceBudgets.createBudget(data);
+        return ResponseEntity.status(HttpStatus.CREATED).body(budget);
+    }
+
+    // sem parâmetro, retorna os orçamentos do mês corrente
+    @GetMapping
+    public ResponseEntity<List<BudgetResponseDTO>> getBudgets(@RequestParam(required = false) YearMonth month) {
+        return ResponseEntity.ok(serviceBudgets.getBudgets(month != null ? month : YearMonth.now()));
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<BudgetResponseDTO> updateBudget(
+            @PathVariable Long id,
+            @RequestBody @Valid BudgetUpdateDTO data) {
+        return ResponseEntity.ok(serviceBudgets.updateBudget(id, data));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteBudget(@PathVariable Long id) {
+        serviceBudgets.deleteBudget(id);
+        return ResponseEntity.noContent().build();
+    }
+}
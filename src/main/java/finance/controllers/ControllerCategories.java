@@ -0,0 +1,55 @@
+package finance.controllers;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import finance.domain.dto.categories.CategoryCreateDTO;
+import finance.domain.dto.categories.CategoryResponseDTO;
+import finance.domain.dto.categories.CategoryUpdateDTO;
+import finance.services.ServiceCategories;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/categories")
+public class ControllerCategories {
+
+    private final ServiceCategories serviceCategories;
+
+    public ControllerCategories(ServiceCategories serviceCategories) {
+        this.serviceCategories = serviceCategories;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<CategoryResponseDTO>> getAllCategories() {
+        return ResponseEntity.ok(serviceCategories.getAllCategories());
+    }
+
+    @PostMapping
+    public ResponseEntity<CategoryResponseDTO> createCategory(@RequestBody @Valid CategoryCreateDTO data) {
+        CategoryResponseDTO category = serviceCategories.createCategory(data);
+        return ResponseEntity.status(HttpStatus.CREATED).body(category);
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<CategoryResponseDTO> updateCategory(
+            @PathVariable Long id,
+            @RequestBody @Valid CategoryUpdateDTO data) {
+        return ResponseEntity.ok(serviceCategories.updateCategory(id, data));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteCategory(@PathVariable Long id) {
+        serviceCategories.deleteCategory(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,51 @@
+package finance.controllers;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import finance.domain.dto.credit.CreditCardResponseDTO;
+import finance.domain.dto.credit.CreditCardSettingsDTO;
+import finance.domain.dto.credit.CreditStatementDTO;
+import finance.services.ServiceCreditCard;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/accounts/{accountId}/credit")
+public class ControllerCreditCard {
+
+    private final ServiceCreditCard serviceCreditCard;
+
+    public ControllerCreditCard(ServiceCreditCard serviceCreditCard) {
+        this.serviceCreditCard = serviceCreditCard;
+    }
+
+    @GetMapping
+    public ResponseEntity<CreditCardResponseDTO> getCard(@PathVariable Long accountId) {
+        return ResponseEntity.ok(serviceCreditCard.getCard(accountId));
+    }
+
+    @PutMapping
+    public ResponseEntity<CreditCardResponseDTO> updateSettings(@PathVariable Long accountId,
+            @RequestBody @Valid CreditCardSettingsDTO data) {
+        return ResponseEntity.ok(serviceCreditCard.updateSettings(accountId, data));
+    }
+
+    @GetMapping("/statements/current")
+    public ResponseEntity<CreditStatementDTO> getCurrentStatement(@PathVariable Long accountId) {
+        return ResponseEntity.ok(serviceCreditCard.getCurrentStatement(accountId));
+    }
+
+    @GetMapping("/statements")
+    public ResponseEntity<List<CreditStatementDTO>> getStatements(@PathVariable Long accountId,
+            @RequestParam(defaultValue = "12") int limit) {
+        return ResponseEntity.ok(serviceCreditCard.getStatements(accountId, limit));
+    }
+}
@@ -0,0 +1,27 @@
+package finance.controllers;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import finance.domain.dto.dashboard.DashboardSummaryDTO;
+import finance.services.ServiceDashboard;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class ControllerDashboard {
+
+    private final ServiceDashboard serviceDashboard;
+
+    public ControllerDashboard(ServiceDashboard serviceDashboard) {
+        this.serviceDashboard = serviceDashboard;
+    }
+
+    @GetMapping
+    public ResponseEntity<DashboardSummaryDTO> getSummary(
+            @RequestParam(defaultValue = "10") int recent) {
+        return ResponseEntity.ok(serviceDashboard.getSummary(recent));
+    }
+}
@@ -0,0 +1,61 @@
+package finance.controllers;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import finance.domain.dto.goals.GoalCreateDTO;
+import finance.domain.dto.goals.GoalProjectionDTO;
+import finance.domain.dto.goals.GoalResponseDTO;
+import finance.domain.dto.goals.GoalUpdateDTO;
+import finance.services.ServiceGoals;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/goals")
+public class ControllerGoals {
+
+    private final ServiceGoals serviceGoals;
+
+    public ControllerGoals(ServiceGoals serviceGoals) {
+        this.serviceGoals = serviceGoals;
+    }
+
+    @PostMapping
+    public ResponseEntity<GoalResponseDTO> createGoal(@RequestBody @Valid GoalCreateDTO data) {
+        GoalResponseDTO goal = serviceGoals.createGoal(data);
+        return ResponseEntity.status(HttpStatus.CREATED).body(goal);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<GoalResponseDTO>> getAllGoals() {
+        return ResponseEntity.ok(serviceGoals.getAllGoals());
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<GoalResponseDTO> updateGoal(
+            @PathVariable Long id,
+            @RequestBody @Valid GoalUpdateDTO data) {
+        return ResponseEntity.ok(serviceGoals.updateGoal(id, data));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteGoal(@PathVariable Long id) {
+        serviceGoals.deleteGoal(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{id}/projection")
+    public ResponseEntity<GoalProjectionDTO> getProjection(@PathVariable Long id) {
+        return ResponseEntity.ok(serviceGoals.getProjection(id));
+    }
+}
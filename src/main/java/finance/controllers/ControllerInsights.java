@@ -0,0 +1,27 @@
+package finance.controllers;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import finance.domain.dto.insights.InsightResponseDTO;
+import finance.services.ServiceInsights;
+
+@RestController
+@RequestMapping("/api/insights")
+public class ControllerInsights {
+
+    private final ServiceInsights serviceInsights;
+
+    public ControllerInsights(ServiceInsights serviceInsights) {
+        this.serviceInsights = serviceInsights;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<InsightResponseDTO>> getLatestInsights() {
+        return ResponseEntity.ok(serviceInsights.getLatestInsights());
+    }
+}
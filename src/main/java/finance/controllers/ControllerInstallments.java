@@ -0,0 +1,48 @@
+package finance.controllers;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import finance.domain.dto.installments.InstallmentCreateDTO;
+import finance.domain.dto.installments.InstallmentResponseDTO;
+import finance.services.ServiceInstallments;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/installments")
+public class ControllerInstallments {
+
+    private final ServiceInstallments serviceInstallments;
+
+    public ControllerInstallments(ServiceInstallments serviceInstallments) {
+        this.serviceInstallments = serviceInstallments;
+    }
+
+    @PostMapping
+    public ResponseEntity<List<InstallmentResponseDTO>> createInstallments(
+            @RequestBody @Valid InstallmentCreateDTO data) {
+        List<InstallmentResponseDTO> installments = serviceInstallments.createInstallments(data);
+        return ResponseEntity.status(HttpStatus.CREATED).body(installments);
+    }
+
+    @GetMapping("/{group}")
+    public ResponseEntity<List<InstallmentResponseDTO>> getInstallmentGroup(@PathVariable String group) {
+        return ResponseEntity.ok(serviceInstallments.getInstallmentGroup(group));
+    }
+
+    // ex.: /api/installments?month=2026-11
+    @GetMapping
+    public ResponseEntity<List<InstallmentResponseDTO>> getInstallmentsDueIn(@RequestParam YearMonth month) {
+        return ResponseEntity.ok(serviceInstallments.getInstallmentsDueIn(month));
+    }
+}
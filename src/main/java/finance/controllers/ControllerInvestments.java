@@ -0,0 +1,66 @@
+package finance.controllers;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import finance.domain.dto.investments.HoldingCreateDTO;
+import finance.domain.dto.investments.HoldingResponseDTO;
+import finance.domain.dto.investments.ValuationDTO;
+import finance.domain.dto.investments.ValuationHistoryDTO;
+import finance.services.ServiceInvestments;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/investments")
+public class ControllerInvestments {
+
+    private final ServiceInvestments serviceInvestments;
+
+    public ControllerInvestments(ServiceInvestments serviceInvestments) {
+        this.serviceInvestments = serviceInvestments;
+    }
+
+    // cria ou ajusta a posição; quantidade zero remove
+    @PutMapping("/holdings")
+    public ResponseEntity<HoldingResponseDTO> saveHolding(@RequestBody @Valid HoldingCreateDTO data) {
+        HoldingResponseDTO holding = serviceInvestments.saveHolding(data);
+        return holding != null ? ResponseEntity.ok(holding) : ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/holdings/{id}")
+    public ResponseEntity<Void> deleteHolding(@PathVariable Long id) {
+        serviceInvestments.deleteHolding(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{accountId}/holdings")
+    public ResponseEntity<List<HoldingResponseDTO>> getHoldings(@PathVariable Long accountId) {
+        return ResponseEntity.ok(serviceInvestments.getHoldings(accountId));
+    }
+
+    @GetMapping("/{accountId}/valuation")
+    public ResponseEntity<ValuationDTO> getValuation(
+            @PathVariable Long accountId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(serviceInvestments.getValuation(accountId, date));
+    }
+
+    @GetMapping("/{accountId}/valuation/history")
+    public ResponseEntity<ValuationHistoryDTO> getValuationHistory(
+            @PathVariable Long accountId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(serviceInvestments.getValuationHistory(accountId, from, to));
+    }
+}
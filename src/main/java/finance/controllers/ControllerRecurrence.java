@@ -0,0 +1,46 @@
+package finance.controllers;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import finance.domain.dto.recurrence.RecurrenceCreateDTO;
+import finance.domain.dto.recurrence.RecurrenceResponseDTO;
+import finance.services.ServiceRecurrence;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/recurrences")
+public class ControllerRecurrence {
+
+    private final ServiceRecurrence serviceRecurrence;
+
+    public ControllerRecurrence(ServiceRecurrence serviceRecurrence) {
+        this.serviceRecurrence = serviceRecurrence;
+    }
+
+    @PostMapping
+    public ResponseEntity<RecurrenceResponseDTO> createRecurrence(@RequestBody @Valid RecurrenceCreateDTO data) {
+        RecurrenceResponseDTO response = serviceRecurrence.createRecurrence(data);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<RecurrenceResponseDTO>> getAllRecurrences() {
+        return ResponseEntity.ok(serviceRecurrence.getAllRecurrences());
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deactivateRecurrence(@PathVariable Long id) {
+        serviceRecurrence.deactivateRecurrence(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,50 @@
+package finance.controllers;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import finance.config.AuthenticatedUser;
+import finance.domain.dto.reports.MonthlyReportDTO;
+import finance.services.ReportBulkhead;
+import finance.services.ServiceReports;
+
+@RestController
+@RequestMapping("/api/reports")
+public class ControllerReports {
+
+    private final ServiceReports serviceReports;
+    private final ReportBulkhead bulkhead;
+
+    public ControllerReports(ServiceReports serviceReports, ReportBulkhead bulkhead) {
+        this.serviceReports = serviceReports;
+        this.bulkhead = bulkhead;
+    }
+
+    @GetMapping("/transactions/export")
+    public DeferredResult<ResponseEntity<String>> exportTransactions(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+        return bulkhead.submit(() -> ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transacoes-" + from + "-" + to + ".csv\"")
+                .body(serviceReports.exportTransactionsCsv(userId, from, to)));
+    }
+
+    @GetMapping("/monthly")
+    public DeferredResult<MonthlyReportDTO> monthly(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+        return bulkhead.submit(() -> serviceReports.monthly(userId, from, to));
+    }
+}
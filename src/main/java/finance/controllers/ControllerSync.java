@@ -0,0 +1,27 @@
+package finance.controllers;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import finance.domain.dto.sync.SyncResponseDTO;
+import finance.services.ServiceSync;
+
+@RestController
+@RequestMapping("/api/sync")
+public class ControllerSync {
+
+    private final ServiceSync serviceSync;
+
+    public ControllerSync(ServiceSync serviceSync) {
+        this.serviceSync = serviceSync;
+    }
+
+    // sem since devolve o estado completo; o token da resposta vai no próximo since
+    @GetMapping
+    public ResponseEntity<SyncResponseDTO> sync(@RequestParam(required = false) String since) {
+        return ResponseEntity.ok(serviceSync.changesSince(since));
+    }
+}
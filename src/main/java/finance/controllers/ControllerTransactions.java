@@ -1,6 +1,8 @@
 package finance.controllers;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,23 +12,32 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import finance.config.AuthenticatedUser;
+import finance.config.ContentNegotiationConfig;
 
 import finance.domain.dto.transactions.TransactionCreateDTO;
 import finance.domain.dto.transactions.TransactionResponseDTO;
 import finance.domain.dto.transactions.TransactionUpdateDTO;
+import finance.services.DataVersionTable;
+import finance.services.DataVersionTable.Versioned;
 import finance.services.ServiceTransactions;
 import jakarta.validation.Valid;
 
 import java.util.List;
 
 @RestController
-@RequestMapping("/api/transactions")
+@RequestMapping(value = "/api/transactions", produces = { MediaType.APPLICATION_JSON_VALUE,
+        MediaType.APPLICATION_CBOR_VALUE, ContentNegotiationConfig.APPLICATION_SMILE_VALUE })
 public class ControllerTransactions {
 
     private final ServiceTransactions serviceTransactions;
+    private final DataVersionTable dataVersionTable;
     
-    public ControllerTransactions(ServiceTransactions serviceTransactions) {
+    public ControllerTransactions(ServiceTransactions serviceTransactions, DataVersionTable dataVersionTable) {
         this.serviceTransactions = serviceTransactions;
+        this.dataVersionTable = dataVersionTable;
     }
 
     @PostMapping
@@ -36,9 +47,17 @@ public class ControllerTransactions {
     }
 
     @GetMapping
-    public ResponseEntity<List<TransactionResponseDTO>> getAllTransactions() {
-        List<TransactionResponseDTO> transactions = serviceTransactions.getAllTransactions();
-        return ResponseEntity.ok(transactions);
+    public ResponseEntity<List<TransactionResponseDTO>> getAllTransactions(WebRequest request) {
+        // If-None-Match com a versão atual responde 304 sem consultar transações
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+        String variant = ContentNegotiationConfig.variantOf(request.getHeader(HttpHeaders.ACCEPT));
+        if (ConditionalRequests.notModified(request, dataVersionTable.etag(userId, variant))) {
+            return null;
+        }
+        // o ETag da resposta é o da versão lida junto com o corpo, não o da memória
+        Versioned<List<TransactionResponseDTO>> transactions = serviceTransactions.getAllTransactions();
+        return ResponseEntity.ok().eTag(dataVersionTable.etag(userId, transactions.version(), variant))
+                .varyBy(HttpHeaders.ACCEPT).body(transactions.body());
     }
 
     @GetMapping("/{id}")
@@ -48,9 +67,16 @@ public class ControllerTransactions {
     }
 
     @GetMapping("/account/{accountId}")
-    public ResponseEntity<List<TransactionResponseDTO>> getTransactionsByAccount(@PathVariable Long accountId) {
-        List<TransactionResponseDTO> transactions = serviceTransactions.getTransactionsByAccountId(accountId);
-        return ResponseEntity.ok(transactions);
+    public ResponseEntity<List<TransactionResponseDTO>> getTransactionsByAccount(@PathVariable Long accountId,
+            WebRequest request) {
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+        String variant = ContentNegotiationConfig.variantOf(request.getHeader(HttpHeaders.ACCEPT));
+        if (ConditionalRequests.notModified(request, dataVersionTable.etag(userId, variant))) {
+            return null;
+        }
+        Versioned<List<TransactionResponseDTO>> transactions = serviceTransactions.getTransactionsByAccountId(accountId);
+        return ResponseEntity.ok().eTag(dataVersionTable.etag(userId, transactions.version(), variant))
+                .varyBy(HttpHeaders.ACCEPT).body(transactions.body());
     }
 
     @PutMapping("/{id}")
@@ -1,8 +1,12 @@
 package finance.domain.acounts;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLRestriction;
+
+import finance.domain.money.Money;
 import finance.domain.user.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -12,14 +16,27 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "accounts")
+@Table(name = "accounts", indexes = {
+        @Index(name = "idx_accounts_type", columnList = "type, id"),
+        @Index(name = "idx_accounts_created", columnList = "created"),
+        @Index(name = "idx_accounts_user_sync", columnList = "user_id, sync_seq")
+})
+// contas excluídas somem de todas as consultas até o purge remover a linha
+@SQLRestriction("deleted_at IS NULL")
+// fora do cache L2: o saldo muda por UPDATEs atômicos em qualquer nó e uma cópia por
+// instância ficaria atrasada. O UPDATE da entidade grava só as colunas alteradas, então
+// renomear ou configurar o cartão não regrava um saldo lido antes de um débito concorrente
+@DynamicUpdate
 public class Account {
 
+    public static final String DEFAULT_CURRENCY = "BRL";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -33,15 +50,38 @@ public class Account {
     @Enumerated(EnumType.STRING)
     private AccountType type;
 
-    private BigDecimal balance;
+    private Money balance;
+
+    // código ISO 4217; saldo e transações da conta estão nesta moeda
+    @ColumnDefault("'BRL'")
+    @Column(nullable = false, length = 3)
+    private String currency = DEFAULT_CURRENCY;
+
+    // apenas CONTA_CREDITO: saldo negativo é dívida, limitada por creditLimit
+    @Column(name = "credit_limit")
+    private Money creditLimit;
+
+    @Column(name = "closing_day")
+    private Integer closingDay;
+
+    @Column(name = "due_day")
+    private Integer dueDay;
 
     @Column(name = "created", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    // data_version do dono na última escrita; base da sincronização incremental
+    @ColumnDefault("0")
+    @Column(name = "sync_seq", nullable = false)
+    private long syncSeq;
+
     public Account() {
     }
 
-    public Account(Long id, User user, String name, AccountType type, BigDecimal balance, LocalDateTime createdAt) {
+    public Account(Long id, User user, String name, AccountType type, Money balance, LocalDateTime createdAt) {
         this.id = id;
         this.user = user;
         this.name = name;
@@ -50,7 +90,7 @@ public class Account {
         this.createdAt = createdAt;
     }
 
-    public Account(User user, String name, AccountType type, BigDecimal balance) {
+    public Account(User user, String name, AccountType type, Money balance) {
         this.user = user;
         this.name = name;
         this.type = type;
@@ -58,7 +98,7 @@ public class Account {
         this.createdAt = LocalDateTime.now();
     }
 
-    public Account(String name, AccountType type, BigDecimal balance) {
+    public Account(String name, AccountType type, Money balance) {
         this.name = name;
         this.type = type;
         this.balance = balance;
@@ -97,11 +137,11 @@ public class Account {
         this.type = type;
     }
 
-    public BigDecimal getBalance() {
+    public Money getBalance() {
         return balance;
     }
 
-    public void setBalance(BigDecimal balance) {
+    public void setBalance(Money balance) {
         this.balance = balance;
     }
 
@@ -112,4 +152,62 @@ public class Account {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
-}
\ No newline at end of file
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    public Money getCreditLimit() {
+        return creditLimit;
+    }
+
+    public void setCreditLimit(Money creditLimit) {
+        this.creditLimit = creditLimit;
+    }
+
+    public Integer getClosingDay() {
+        return closingDay;
+    }
+
+    public void setClosingDay(Integer closingDay) {
+        this.closingDay = closingDay;
+    }
+
+    public Integer getDueDay() {
+        return dueDay;
+    }
+
+    public void setDueDay(Integer dueDay) {
+        this.dueDay = dueDay;
+    }
+
+    public long getSyncSeq() {
+        return syncSeq;
+    }
+
+    public void setSyncSeq(long syncSeq) {
+        this.syncSeq = syncSeq;
+    }
+
+    public boolean isCredit() {
+        return type == AccountType.CONTA_CREDITO;
+    }
+
+    // limite menos a dívida atual (saldo negativo)
+    public Money availableCredit() {
+        Money limit = creditLimit != null ? creditLimit : Money.ZERO;
+        return limit.plus(balance);
+    }
+}
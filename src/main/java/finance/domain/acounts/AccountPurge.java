@@ -0,0 +1,82 @@
+package finance.domain.acounts;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+// remoção em background de uma conta excluída; deletedRows acompanha o progresso
+@Entity
+@Table(name = "account_purges", indexes = {
+        @Index(name = "idx_account_purges_status", columnList = "status, updated_at")
+})
+public class AccountPurge {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false, unique = true)
+    private Long accountId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private PurgeStatus status;
+
+    @Column(name = "deleted_rows", nullable = false)
+    private long deletedRows;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public AccountPurge() {
+    }
+
+    public AccountPurge(Long accountId, Long userId) {
+        this.accountId = accountId;
+        this.userId = userId;
+        this.status = PurgeStatus.PENDING;
+        this.requestedAt = LocalDateTime.now();
+        this.updatedAt = this.requestedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public PurgeStatus getStatus() {
+        return status;
+    }
+
+    public long getDeletedRows() {
+        return deletedRows;
+    }
+
+    public LocalDateTime getRequestedAt() {
+        return requestedAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+}
@@ -0,0 +1,7 @@
+package finance.domain.acounts;
+
+public enum PurgeStatus {
+    PENDING,
+    RUNNING,
+    DONE
+}
@@ -0,0 +1,125 @@
+package finance.domain.budgets;
+
+import finance.domain.money.Money;
+import finance.domain.user.User;
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "budgets", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_budgets_user_category_period", columnNames = { "user_id", "category_id", "year", "month" })
+}, indexes = {
+        @Index(name = "idx_budgets_user_period", columnList = "user_id, year, month, category_id")
+})
+public class Budget {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(name = "limit_amount", nullable = false)
+    private Money limitAmount;
+
+    // mantido incrementalmente pelo ServiceTransactions
+    @Column(name = "consumed_amount", nullable = false)
+    private Money consumedAmount;
+
+    // percentual do limite que dispara o alerta
+    @Column(name = "alert_percent", nullable = false)
+    private int alertPercent;
+
+    @Column(nullable = false)
+    private int month;
+
+    @Column(nullable = false)
+    private int year;
+
+    public Budget() {
+    }
+
+    public Budget(User user, Long categoryId, Money limitAmount, int alertPercent,
+            int month, int year, Money consumedAmount) {
+        this.user = user;
+        this.categoryId = categoryId;
+        this.limitAmount = limitAmount;
+        this.alertPercent = alertPercent;
+        this.month = month;
+        this.year = year;
+        this.consumedAmount = consumedAmount;
+    }
+
+    // valor consumido a partir do qual o alerta é disparado, arredondado para cima ao centavo
+    public Money alertAmount() {
+        return Money.ofCents(-Math.floorDiv(-Math.multiplyExact(limitAmount.cents(), alertPercent), 100));
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public Money getLimitAmount() {
+        return limitAmount;
+    }
+
+    public void setLimitAmount(Money limitAmount) {
+        this.limitAmount = limitAmount;
+    }
+
+    public Money getConsumedAmount() {
+        return consumedAmount;
+    }
+
+    public void setConsumedAmount(Money consumedAmount) {
+        this.consumedAmount = consumedAmount;
+    }
+
+    public int getAlertPercent() {
+        return alertPercent;
+    }
+
+    public void setAlertPercent(int alertPercent) {
+        this.alertPercent = alertPercent;
+    }
+
+    public int getMonth() {
+        return month;
+    }
+
+    public void setMonth(int month) {
+        this.month = month;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public void setYear(int year) {
+        this.year = year;
+    }
+}
@@ -0,0 +1,16 @@
+package finance.domain.budgets;
+
+import finance.domain.money.Money;
+
+// publicado quando o consumo de um orçamento cruza o alerta ou o limite
+public record BudgetThresholdEvent(
+        Long budgetId,
+        Long userId,
+        Long categoryId,
+        String category,
+        int month,
+        int year,
+        Money limitAmount,
+        Money consumedAmount,
+        boolean limitExceeded) {
+}
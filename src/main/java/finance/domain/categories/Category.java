@@ -0,0 +1,94 @@
+package finance.domain.categories;
+
+import finance.domain.transactions.TypeTransaction;
+import finance.domain.user.User;
+import jakarta.persistence.*;
+
+// categoria de transação; user nulo indica uma categoria padrão do sistema
+// (únicas por nome via system_name, preenchida só nelas; ver V20)
+@Entity
+@Table(name = "categories", indexes = {
+        @Index(name = "idx_categories_user", columnList = "user_id")
+})
+public class Category {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Column(nullable = false, length = 50)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private TypeTransaction type;
+
+    @Column(length = 50)
+    private String icon;
+
+    @Column(length = 20)
+    private String color;
+
+    public Category() {
+    }
+
+    public Category(User user, String name, TypeTransaction type, String icon, String color) {
+        this.user = user;
+        this.name = name;
+        this.type = type;
+        this.icon = icon;
+        this.color = color;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public TypeTransaction getType() {
+        return type;
+    }
+
+    public void setType(TypeTransaction type) {
+        this.type = type;
+    }
+
+    public String getIcon() {
+        return icon;
+    }
+
+    public void setIcon(String icon) {
+        this.icon = icon;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public void setColor(String color) {
+        this.color = color;
+    }
+}
@@ -0,0 +1,21 @@
+package finance.domain.categories;
+
+import finance.domain.transactions.TypeTransaction;
+
+// cópia imutável de uma categoria, guardada no dicionário em memória
+public record CategoryEntry(
+        Long id,
+        Long userId,
+        String name,
+        TypeTransaction type,
+        String icon,
+        String color) {
+
+    public static CategoryEntry of(Category c, Long userId) {
+        return new CategoryEntry(c.getId(), userId, c.getName(), c.getType(), c.getIcon(), c.getColor());
+    }
+
+    public boolean isSystem() {
+        return userId == null;
+    }
+}
@@ -0,0 +1,35 @@
+package finance.domain.credit;
+
+import java.time.LocalDate;
+
+/**
+ * Ciclo de fatura de um cartão: compras até o dia de fechamento (inclusive)
+ * entram na fatura do mês; as posteriores vão para a do mês seguinte.
+ * Dias de fechamento e vencimento ficam entre 1 e 28 para existir em todo mês.
+ */
+public record BillingCycle(LocalDate start, LocalDate closing, LocalDate due) {
+
+    public static final int MAX_DAY = 28;
+
+    public static BillingCycle containing(LocalDate day, int closingDay, int dueDay) {
+        LocalDate closing = day.withDayOfMonth(closingDay);
+        if (day.isAfter(closing)) {
+            closing = closing.plusMonths(1);
+        }
+        return forClosing(closing, dueDay);
+    }
+
+    // vencimento no mesmo mês quando cai depois do fechamento; senão no mês seguinte
+    public static BillingCycle forClosing(LocalDate closing, int dueDay) {
+        LocalDate start = closing.minusMonths(1).plusDays(1);
+        LocalDate due = closing.withDayOfMonth(dueDay);
+        if (!due.isAfter(closing)) {
+            due = due.plusMonths(1);
+        }
+        return new BillingCycle(start, closing, due);
+    }
+
+    public boolean isOpen(LocalDate today) {
+        return !today.isAfter(closing);
+    }
+}
@@ -0,0 +1,84 @@
+package finance.domain.credit;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import finance.domain.acounts.Account;
+import finance.domain.money.Money;
+import jakarta.persistence.*;
+
+// fatura de um ciclo; totais mantidos incrementalmente a cada transação da conta de crédito
+@Entity
+@Table(name = "credit_statements", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_credit_statements_account_closing", columnNames = { "account_id", "closing_date" })
+})
+public class CreditStatement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_id", nullable = false)
+    private Account account;
+
+    @Column(name = "cycle_start", nullable = false)
+    private LocalDate cycleStart;
+
+    @Column(name = "closing_date", nullable = false)
+    private LocalDate closingDate;
+
+    @Column(name = "due_date", nullable = false)
+    private LocalDate dueDate;
+
+    @Column(nullable = false)
+    private Money charges = Money.ZERO;
+
+    @Column(nullable = false)
+    private Money payments = Money.ZERO;
+
+    @Column(name = "transaction_count", nullable = false)
+    private int transactionCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public CreditStatement() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Account getAccount() {
+        return account;
+    }
+
+    public LocalDate getCycleStart() {
+        return cycleStart;
+    }
+
+    public LocalDate getClosingDate() {
+        return closingDate;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public Money getCharges() {
+        return charges;
+    }
+
+    public Money getPayments() {
+        return payments;
+    }
+
+    public int getTransactionCount() {
+        return transactionCount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,9 @@
+package finance.domain.dto.accounts;
+
+import java.util.List;
+
+// seleciona as contas por ids ou por filtro (um dos dois)
+public record AccountBulkDeleteDTO(
+        List<Long> ids,
+        AccountFilterDTO filter) {
+}
@@ -0,0 +1,13 @@
+package finance.domain.dto.accounts;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+// seleciona as contas por ids ou por filtro (um dos dois) e aplica changes
+public record AccountBulkPatchDTO(
+        List<Long> ids,
+        AccountFilterDTO filter,
+        @NotNull(message = "Alterações são obrigatórias") @Valid AccountUpdateDTO changes) {
+}
@@ -7,6 +7,7 @@ import finance.domain.acounts.AccountType;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 
 public record AccountCreateDTO(
 
@@ -14,10 +15,13 @@ public record AccountCreateDTO(
 
                 @NotNull(message = "account.type.required") AccountType type,
 
-                @NotNull(message = "account.balance.required") @DecimalMin(value = "0.00", inclusive = true, message = "account.balance.negative") BigDecimal balance
+                @NotNull(message = "account.balance.required") @DecimalMin(value = "0.00", inclusive = true, message = "account.balance.negative") BigDecimal balance,
+
+                // opcional; sem moeda a conta é criada na moeda padrão (BRL)
+                @Pattern(regexp = "[A-Za-z]{3}", message = "account.currency.invalid") String currency
 
 ) {public AccountCreateDTO(Account account){
-    this(account.getName(),account.getType(),account.getBalance());
+    this(account.getName(),account.getType(),account.getBalance().toBigDecimal(),account.getCurrency());
 
 }    
 }
@@ -0,0 +1,13 @@
+package finance.domain.dto.accounts;
+
+import java.time.LocalDateTime;
+
+import finance.domain.acounts.AccountType;
+
+// filtros opcionais da listagem administrativa; campos nulos não filtram
+public record AccountFilterDTO(
+        AccountType type,
+        Long userId,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo) {
+}
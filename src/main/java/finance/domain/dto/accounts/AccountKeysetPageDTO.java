@@ -0,0 +1,11 @@
+package finance.domain.dto.accounts;
+
+import java.util.List;
+
+// nextCursor é o id da última conta da página; totalEstimate vem de cache
+public record AccountKeysetPageDTO(
+        List<AccountResponseDTO> content,
+        Long nextCursor,
+        boolean hasMore,
+        long totalEstimate) {
+}
@@ -0,0 +1,27 @@
+package finance.domain.dto.accounts;
+
+import java.time.LocalDateTime;
+
+import finance.domain.acounts.AccountPurge;
+import finance.domain.acounts.PurgeStatus;
+
+public record AccountPurgeResponseDTO(
+        Long accountId,
+        Long userId,
+        PurgeStatus status,
+        long deletedRows,
+        LocalDateTime requestedAt,
+        LocalDateTime updatedAt,
+        LocalDateTime finishedAt) {
+
+    public static AccountPurgeResponseDTO toDTO(AccountPurge p) {
+        return new AccountPurgeResponseDTO(
+                p.getAccountId(),
+                p.getUserId(),
+                p.getStatus(),
+                p.getDeletedRows(),
+                p.getRequestedAt(),
+                p.getUpdatedAt(),
+                p.getFinishedAt());
+    }
+}
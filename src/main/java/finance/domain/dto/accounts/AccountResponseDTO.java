@@ -6,15 +6,23 @@ import java.time.LocalDateTime;
 
 import finance.domain.acounts.Account;
 import finance.domain.acounts.AccountType;
+import finance.domain.money.Money;
+import finance.repository.RepositoryAccount.AccountStats;
 
 public record AccountResponseDTO(
                 Long id,
                 Long userId,
                 String name,
                 AccountType type,
-                BigDecimal balance,
-                LocalDateTime createdAt) {
+                Money balance,
+                String currency,
+                LocalDateTime createdAt,
+                Long transactionCount,
+                LocalDateTime lastTransactionAt,
+                BigDecimal monthIncome,
+                BigDecimal monthExpense) {
 
+        // sem estatísticas: usado nas respostas de escrita e nas telas de admin
         public static AccountResponseDTO toDTO(Account a) {
                 return new AccountResponseDTO(
                                 a.getId(),
@@ -22,7 +30,32 @@ public record AccountResponseDTO(
                                 a.getName(),
                                 a.getType(),
                                 a.getBalance(),
-                                a.getCreatedAt());
+                                a.getCurrency(),
+                                a.getCreatedAt(),
+                                null,
+                                null,
+                                null,
+                                null);
+        }
+
+        public static AccountResponseDTO toDTO(Account a, AccountStats stats) {
+                if (stats == null) {
+                        return new AccountResponseDTO(a.getId(), a.getUser().getId(), a.getName(), a.getType(),
+                                        a.getBalance(), a.getCurrency(), a.getCreatedAt(), 0L, null, BigDecimal.ZERO,
+                                        BigDecimal.ZERO);
+                }
+                return new AccountResponseDTO(
+                                a.getId(),
+                                a.getUser().getId(),
+                                a.getName(),
+                                a.getType(),
+                                a.getBalance(),
+                                a.getCurrency(),
+                                a.getCreatedAt(),
+                                stats.getTransactionCount(),
+                                stats.getLastTransactionAt(),
+                                stats.getMonthIncome(),
+                                stats.getMonthExpense());
         }
 
 }
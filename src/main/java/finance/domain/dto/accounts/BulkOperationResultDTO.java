@@ -0,0 +1,12 @@
+package finance.domain.dto.accounts;
+
+import java.util.List;
+
+public record BulkOperationResultDTO(
+        long affected,
+        List<Chunk> chunks) {
+
+    // cada lote é commitado separadamente; firstId/lastId delimitam os ids do lote
+    public record Chunk(int index, Long firstId, Long lastId, int affected) {
+    }
+}
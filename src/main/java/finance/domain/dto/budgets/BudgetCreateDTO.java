@@ -0,0 +1,16 @@
+package finance.domain.dto.budgets;
+
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record BudgetCreateDTO(
+                @NotNull Long categoryId,
+                @NotNull @Positive BigDecimal limitAmount,
+                @Min(1) @Max(100) Integer alertPercent,
+                @NotNull @Min(1) @Max(12) Integer month,
+                @NotNull @Min(2000) Integer year) {
+}
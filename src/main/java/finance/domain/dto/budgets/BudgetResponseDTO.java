@@ -0,0 +1,29 @@
+package finance.domain.dto.budgets;
+
+import finance.domain.budgets.Budget;
+import finance.domain.money.Money;
+
+public record BudgetResponseDTO(
+                Long id,
+                Long categoryId,
+                String category,
+                Money limitAmount,
+                Money consumedAmount,
+                Money remainingAmount,
+                int alertPercent,
+                int month,
+                int year) {
+
+        public static BudgetResponseDTO toDTO(Budget b, String categoryName) {
+                return new BudgetResponseDTO(
+                                b.getId(),
+                                b.getCategoryId(),
+                                categoryName,
+                                b.getLimitAmount(),
+                                b.getConsumedAmount(),
+                                b.getLimitAmount().minus(b.getConsumedAmount()),
+                                b.getAlertPercent(),
+                                b.getMonth(),
+                                b.getYear());
+        }
+}
@@ -0,0 +1,12 @@
+package finance.domain.dto.budgets;
+
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+
+public record BudgetUpdateDTO(
+                @Positive BigDecimal limitAmount,
+                @Min(1) @Max(100) Integer alertPercent) {
+}
@@ -0,0 +1,13 @@
+package finance.domain.dto.categories;
+
+import finance.domain.transactions.TypeTransaction;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record CategoryCreateDTO(
+                @NotBlank @Size(max = 50) String name,
+                @NotNull TypeTransaction type,
+                @Size(max = 50) String icon,
+                @Size(max = 20) String color) {
+}
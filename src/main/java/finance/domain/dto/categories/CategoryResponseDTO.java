@@ -0,0 +1,23 @@
+package finance.domain.dto.categories;
+
+import finance.domain.categories.CategoryEntry;
+import finance.domain.transactions.TypeTransaction;
+
+public record CategoryResponseDTO(
+                Long id,
+                String name,
+                TypeTransaction type,
+                String icon,
+                String color,
+                boolean system) {
+
+        public static CategoryResponseDTO toDTO(CategoryEntry c) {
+                return new CategoryResponseDTO(
+                                c.id(),
+                                c.name(),
+                                c.type(),
+                                c.icon(),
+                                c.color(),
+                                c.isSystem());
+        }
+}
@@ -0,0 +1,11 @@
+package finance.domain.dto.categories;
+
+import finance.domain.transactions.TypeTransaction;
+import jakarta.validation.constraints.Size;
+
+public record CategoryUpdateDTO(
+                @Size(min = 1, max = 50) String name,
+                TypeTransaction type,
+                @Size(max = 50) String icon,
+                @Size(max = 20) String color) {
+}
@@ -0,0 +1,25 @@
+package finance.domain.dto.credit;
+
+import finance.domain.acounts.Account;
+import finance.domain.money.Money;
+
+// saldo negativo de uma conta de crédito é a dívida em aberto
+public record CreditCardResponseDTO(
+        Long accountId,
+        Money creditLimit,
+        Integer closingDay,
+        Integer dueDay,
+        Money used,
+        Money available) {
+
+    public static CreditCardResponseDTO toDTO(Account account) {
+        Money used = account.getBalance().isNegative() ? account.getBalance().negate() : Money.ZERO;
+        return new CreditCardResponseDTO(
+                account.getId(),
+                account.getCreditLimit(),
+                account.getClosingDay(),
+                account.getDueDay(),
+                used,
+                account.availableCredit());
+    }
+}
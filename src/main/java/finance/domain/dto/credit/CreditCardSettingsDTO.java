@@ -0,0 +1,19 @@
+package finance.domain.dto.credit;
+
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record CreditCardSettingsDTO(
+
+        @NotNull @DecimalMin(value = "0.00", inclusive = true) BigDecimal creditLimit,
+
+        @NotNull @Min(1) @Max(28) Integer closingDay,
+
+        @NotNull @Min(1) @Max(28) Integer dueDay
+
+) {
+}
@@ -0,0 +1,38 @@
+package finance.domain.dto.credit;
+
+import java.time.LocalDate;
+
+import finance.domain.credit.BillingCycle;
+import finance.domain.credit.CreditStatement;
+import finance.domain.money.Money;
+
+public record CreditStatementDTO(
+        Long accountId,
+        LocalDate cycleStart,
+        LocalDate closingDate,
+        LocalDate dueDate,
+        Money charges,
+        Money payments,
+        Money total,
+        int transactionCount,
+        boolean open) {
+
+    public static CreditStatementDTO toDTO(CreditStatement statement, LocalDate today) {
+        return new CreditStatementDTO(
+                statement.getAccount().getId(),
+                statement.getCycleStart(),
+                statement.getClosingDate(),
+                statement.getDueDate(),
+                statement.getCharges(),
+                statement.getPayments(),
+                statement.getCharges().minus(statement.getPayments()),
+                statement.getTransactionCount(),
+                !today.isAfter(statement.getClosingDate()));
+    }
+
+    // ciclo sem nenhuma transação ainda não tem linha na tabela
+    public static CreditStatementDTO empty(Long accountId, BillingCycle cycle, LocalDate today) {
+        return new CreditStatementDTO(accountId, cycle.start(), cycle.closing(), cycle.due(),
+                Money.ZERO, Money.ZERO, Money.ZERO, 0, cycle.isOpen(today));
+    }
+}
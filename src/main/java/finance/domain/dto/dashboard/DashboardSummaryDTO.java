@@ -0,0 +1,21 @@
+package finance.domain.dto.dashboard;
+
+import java.util.List;
+
+import finance.domain.dto.accounts.AccountResponseDTO;
+import finance.domain.dto.transactions.TransactionResponseDTO;
+import finance.domain.dto.user.UserProfileDTO;
+import finance.domain.money.Money;
+
+// netWorth e os totais do mês consideram só moedas com cotação; unpricedCurrencies lista as demais
+public record DashboardSummaryDTO(
+        UserProfileDTO profile,
+        List<AccountResponseDTO> accounts,
+        Money netWorth,
+        String netWorthCurrency,
+        List<TransactionResponseDTO> recentTransactions,
+        Money monthIncome,
+        Money monthExpense,
+        Money monthNet,
+        List<String> unpricedCurrencies) {
+}
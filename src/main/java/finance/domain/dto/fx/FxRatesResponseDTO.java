@@ -0,0 +1,16 @@
+package finance.domain.dto.fx;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import finance.domain.fx.FxSnapshot;
+
+public record FxRatesResponseDTO(
+        String baseCurrency,
+        Map<String, Double> rates,
+        LocalDateTime loadedAt) {
+
+    public static FxRatesResponseDTO toDTO(FxSnapshot snapshot) {
+        return new FxRatesResponseDTO(snapshot.baseCurrency(), snapshot.rates(), snapshot.loadedAt());
+    }
+}
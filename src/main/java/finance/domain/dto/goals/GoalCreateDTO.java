@@ -0,0 +1,18 @@
+package finance.domain.dto.goals;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+public record GoalCreateDTO(
+                @NotBlank @Size(max = 100) String title,
+                @NotNull @Positive BigDecimal targetAmount,
+                @DecimalMin(value = "0.00") BigDecimal savedAmount,
+                @NotNull @Future LocalDate deadline) {
+}
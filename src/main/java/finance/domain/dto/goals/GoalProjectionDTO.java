@@ -0,0 +1,16 @@
+package finance.domain.dto.goals;
+
+import java.math.BigDecimal;
+
+public record GoalProjectionDTO(
+                Long goalId,
+                double probability,
+                int months,
+                int paths,
+                int historyMonths,
+                BigDecimal averageMonthlyNet,
+                BigDecimal expectedFinalAmount,
+                BigDecimal p10FinalAmount,
+                BigDecimal p50FinalAmount,
+                BigDecimal p90FinalAmount) {
+}
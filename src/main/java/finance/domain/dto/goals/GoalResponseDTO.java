@@ -0,0 +1,29 @@
+package finance.domain.dto.goals;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import finance.domain.goals.Goal;
+import finance.domain.goals.GoalStatus;
+
+public record GoalResponseDTO(
+                Long id,
+                String title,
+                BigDecimal targetAmount,
+                BigDecimal savedAmount,
+                LocalDate deadline,
+                GoalStatus status,
+                LocalDateTime createdAt) {
+
+        public static GoalResponseDTO toDTO(Goal g) {
+                return new GoalResponseDTO(
+                                g.getId(),
+                                g.getTitle(),
+                                g.getTargetAmount(),
+                                g.getSavedAmount(),
+                                g.getDeadline(),
+                                g.getStatus(),
+                                g.getCreatedAt());
+        }
+}
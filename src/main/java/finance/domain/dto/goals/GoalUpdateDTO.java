@@ -0,0 +1,17 @@
+package finance.domain.dto.goals;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import finance.domain.goals.GoalStatus;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+public record GoalUpdateDTO(
+                @Size(min = 1, max = 100) String title,
+                @Positive BigDecimal targetAmount,
+                @DecimalMin(value = "0.00") BigDecimal savedAmount,
+                LocalDate deadline,
+                GoalStatus status) {
+}
@@ -0,0 +1,23 @@
+package finance.domain.dto.insights;
+
+import java.time.LocalDateTime;
+
+import finance.domain.insights.Insight;
+import finance.domain.insights.InsightType;
+
+public record InsightResponseDTO(
+                Long id,
+                InsightType kind,
+                String title,
+                String message,
+                LocalDateTime createdAt) {
+
+        public static InsightResponseDTO toDTO(Insight i) {
+                return new InsightResponseDTO(
+                                i.getId(),
+                                i.getKind(),
+                                i.getTitle(),
+                                i.getMessage(),
+                                i.getCreatedAt());
+        }
+}
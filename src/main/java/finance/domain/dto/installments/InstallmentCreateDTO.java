@@ -0,0 +1,18 @@
+package finance.domain.dto.installments;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record InstallmentCreateDTO(
+                @NotNull Long accountId,
+                @NotNull String name,
+                Long categoryId,
+                @NotNull @Positive BigDecimal totalAmount,
+                @NotNull @Min(2) @Max(420) Integer installments,
+                @NotNull LocalDate firstDueDate) {
+}
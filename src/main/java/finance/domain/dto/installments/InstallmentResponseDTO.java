@@ -0,0 +1,35 @@
+package finance.domain.dto.installments;
+
+import java.time.LocalDate;
+
+import finance.domain.money.Money;
+import finance.domain.transactions.Transaction;
+
+public record InstallmentResponseDTO(
+                Long transactionId,
+                Long accountId,
+                String installmentGroup,
+                Integer installmentNumber,
+                Integer installmentTotal,
+                Long categoryId,
+                String category,
+                String name,
+                Money amount,
+                LocalDate dueDate,
+                boolean settled) {
+
+        public static InstallmentResponseDTO toDTO(Transaction t, String categoryName) {
+                return new InstallmentResponseDTO(
+                                t.getId(),
+                                t.getAccount().getId(),
+                                t.getInstallmentGroup(),
+                                t.getInstallmentNumber(),
+                                t.getInstallmentTotal(),
+                                t.getCategoryId(),
+                                categoryName,
+                                t.getName(),
+                                t.getAmount(),
+                                t.getDueDate(),
+                                t.isSettled());
+        }
+}
@@ -0,0 +1,15 @@
+package finance.domain.dto.investments;
+
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+// define a quantidade do ativo na conta; quantidade zero remove a posição
+public record HoldingCreateDTO(
+        @NotNull Long accountId,
+        @NotBlank @Size(max = 20) String instrument,
+        @NotNull @PositiveOrZero BigDecimal quantity) {
+}
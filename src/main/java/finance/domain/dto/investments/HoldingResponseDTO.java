@@ -0,0 +1,23 @@
+package finance.domain.dto.investments;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import finance.domain.investments.Holding;
+
+public record HoldingResponseDTO(
+        Long id,
+        Long accountId,
+        String instrument,
+        BigDecimal quantity,
+        LocalDateTime updatedAt) {
+
+    public static HoldingResponseDTO toDTO(Holding h) {
+        return new HoldingResponseDTO(
+                h.getId(),
+                h.getAccount().getId(),
+                h.getInstrument(),
+                h.getQuantity(),
+                h.getUpdatedAt());
+    }
+}
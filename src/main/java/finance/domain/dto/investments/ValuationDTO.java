@@ -0,0 +1,22 @@
+package finance.domain.dto.investments;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import finance.domain.money.Money;
+
+// positionsValue considera só os ativos com preço na data; unpriced lista os demais
+public record ValuationDTO(
+        Long accountId,
+        LocalDate date,
+        String currency,
+        Money cash,
+        Money positionsValue,
+        Money total,
+        List<Position> positions,
+        List<String> unpriced) {
+
+    public record Position(String instrument, BigDecimal quantity, double price, Money value) {
+    }
+}
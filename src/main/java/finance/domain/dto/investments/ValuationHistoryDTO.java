@@ -0,0 +1,18 @@
+package finance.domain.dto.investments;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import finance.domain.money.Money;
+
+// valor diário das posições (sem o caixa) entre from e to
+public record ValuationHistoryDTO(
+        Long accountId,
+        String currency,
+        LocalDate from,
+        LocalDate to,
+        List<Point> points) {
+
+    public record Point(LocalDate date, Money value) {
+    }
+}
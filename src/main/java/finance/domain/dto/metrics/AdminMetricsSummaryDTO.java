@@ -0,0 +1,26 @@
+package finance.domain.dto.metrics;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import finance.domain.acounts.AccountType;
+import finance.domain.metrics.AccountTypeMetric;
+
+public record AdminMetricsSummaryDTO(
+        long users,
+        long accounts,
+        BigDecimal totalBalance,
+        List<AccountTypeTotal> accountsByType,
+        // contas sem cotação, contadas em accounts mas fora de totalBalance
+        long unpricedAccounts,
+        List<String> unpricedCurrencies,
+        LocalDateTime refreshedAt) {
+
+    public record AccountTypeTotal(AccountType type, long accounts, BigDecimal totalBalance) {
+
+        public static AccountTypeTotal toDTO(AccountTypeMetric m) {
+            return new AccountTypeTotal(m.getType(), m.getAccountCount(), m.getTotalBalance());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package finance.domain.dto.metrics;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import finance.domain.metrics.DailyTransactionMetric;
+import finance.domain.transactions.TypeTransaction;
+
+// category vem nulo para categorias criadas por usuários; total na moeda das contas (uma linha por moeda)
+public record DailyVolumeDTO(
+        LocalDate day,
+        Long categoryId,
+        String category,
+        TypeTransaction type,
+        String currency,
+        long count,
+        BigDecimal total) {
+
+    public static DailyVolumeDTO toDTO(DailyTransactionMetric m, String categoryName) {
+        return new DailyVolumeDTO(
+                m.getDay(),
+                m.getCategoryId() == 0 ? null : m.getCategoryId(),
+                categoryName,
+                m.getType(),
+                m.getCurrency(),
+                m.getCount(),
+                m.getTotalAmount());
+    }
+}
@@ -0,0 +1,19 @@
+package finance.domain.dto.recurrence;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import finance.domain.recurrence.FrequencyRecurrence;
+import finance.domain.transactions.TypeTransaction;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record RecurrenceCreateDTO(
+                @NotNull Long accountId,
+                @NotNull String name,
+                Long categoryId,
+                @NotNull TypeTransaction type,
+                @NotNull @Positive BigDecimal amount,
+                @NotNull FrequencyRecurrence frequency,
+                @NotNull LocalDate firstRun) {
+}
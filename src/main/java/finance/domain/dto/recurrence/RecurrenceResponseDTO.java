@@ -0,0 +1,37 @@
+package finance.domain.dto.recurrence;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import finance.domain.recurrence.FrequencyRecurrence;
+import finance.domain.recurrence.RecurrenceEvent;
+import finance.domain.transactions.TypeTransaction;
+
+public record RecurrenceResponseDTO(
+                Long id,
+                Long accountId,
+                String name,
+                Long categoryId,
+                String category,
+                TypeTransaction type,
+                BigDecimal amount,
+                FrequencyRecurrence frequency,
+                LocalDate nextRun,
+                boolean active,
+                LocalDate lastSkippedRun) {
+
+        public static RecurrenceResponseDTO toDTO(RecurrenceEvent r, String categoryName) {
+                return new RecurrenceResponseDTO(
+                                r.getId(),
+                                r.getAccount().getId(),
+                                r.getName(),
+                                r.getCategoryId(),
+                                categoryName,
+                                r.getType(),
+                                r.getAmount(),
+                                r.getFrequency(),
+                                r.getNextRun(),
+                                r.isActive(),
+                                r.getLastSkippedRun());
+        }
+}
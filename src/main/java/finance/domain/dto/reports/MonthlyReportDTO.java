@@ -0,0 +1,25 @@
+package finance.domain.dto.reports;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import finance.domain.transactions.TypeTransaction;
+
+// totais por mês, moeda, categoria e tipo; valores na moeda das contas de origem
+public record MonthlyReportDTO(
+        LocalDate from,
+        LocalDate to,
+        List<Row> rows) {
+
+    public record Row(
+            YearMonth month,
+            String currency,
+            Long categoryId,
+            String category,
+            TypeTransaction type,
+            long count,
+            BigDecimal total) {
+    }
+}
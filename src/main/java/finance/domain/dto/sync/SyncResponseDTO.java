@@ -0,0 +1,27 @@
+package finance.domain.dto.sync;
+
+import java.util.List;
+
+import finance.domain.dto.accounts.AccountResponseDTO;
+import finance.domain.dto.transactions.TransactionResponseDTO;
+import finance.domain.sync.SyncEntityType;
+import finance.domain.sync.SyncTombstone;
+
+/**
+ * Alterações desde o token enviado. full = true quando o cliente deve
+ * descartar o estado local (primeira sincronização ou token desconhecido).
+ */
+public record SyncResponseDTO(
+        String token,
+        boolean full,
+        List<AccountResponseDTO> accounts,
+        List<TransactionResponseDTO> transactions,
+        List<Deleted> deleted) {
+
+    public record Deleted(SyncEntityType type, Long id) {
+
+        public static Deleted toDTO(SyncTombstone tombstone) {
+            return new Deleted(tombstone.getEntityType(), tombstone.getEntityId());
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package finance.domain.dto.transactions;
 
-import finance.domain.transactions.CategoryTransactions;
 import finance.domain.transactions.TypeTransaction;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -10,7 +9,7 @@ import java.math.BigDecimal;
 public record TransactionCreateDTO(
                 @NotNull Long accountId,
                 @NotNull String name,
-                CategoryTransactions category,
+                Long categoryId,
                 @NotNull TypeTransaction type,
                 @NotNull @Positive BigDecimal amount) {
 }
@@ -1,22 +1,35 @@
 package finance.domain.dto.transactions;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
-import finance.domain.transactions.CategoryTransactions;
+import finance.domain.money.Money;
+import finance.domain.transactions.Transaction;
 
 public record TransactionResponseDTO(
                 Long transactionId,
                 Long accountId,
-                CategoryTransactions category,
+                Long categoryId,
+                String category,
                 String name,
-                BigDecimal amount,
+                Money amount,
                 LocalDateTime created,
                 LocalDateTime updated) {
         public TransactionResponseDTO(Long transactionId, Long accountId,
-                        CategoryTransactions category, String name,
-                        BigDecimal amount) {
-                this(transactionId, accountId, category, name, amount, LocalDateTime.now(), LocalDateTime.now());
+                        Long categoryId, String category, String name,
+                        Money amount) {
+                this(transactionId, accountId, categoryId, category, name, amount, LocalDateTime.now(), LocalDateTime.now());
+        }
+
+        public static TransactionResponseDTO toDTO(Transaction t, String categoryName) {
+                return new TransactionResponseDTO(
+                                t.getId(),
+                                t.getAccount().getId(),
+                                t.getCategoryId(),
+                                categoryName,
+                                t.getName(),
+                                t.getAmount(),
+                                t.getCreated(),
+                                t.getUpdated());
         }
 
 }
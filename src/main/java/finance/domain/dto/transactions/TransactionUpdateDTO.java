@@ -1,6 +1,5 @@
 package finance.domain.dto.transactions;
 
-import finance.domain.transactions.CategoryTransactions;
 import finance.domain.transactions.TypeTransaction;
 import jakarta.validation.constraints.Positive;
 
@@ -8,7 +7,7 @@ import java.math.BigDecimal;
 
 public record TransactionUpdateDTO(
         String name,
-        CategoryTransactions category,
+        Long categoryId,
         TypeTransaction type,
         @Positive(message = "O valor deve ser positivo")
         BigDecimal amount
@@ -0,0 +1,48 @@
+package finance.domain.fx;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+// quanto vale uma unidade da moeda na moeda base (finance.fx.base-currency)
+@Entity
+@Table(name = "fx_rates")
+public class FxRate {
+
+    @Id
+    @Column(length = 3)
+    private String currency;
+
+    @Column(nullable = false, precision = 19, scale = 8)
+    private BigDecimal rate;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public FxRate() {
+    }
+
+    public FxRate(String currency, BigDecimal rate) {
+        this.currency = currency;
+        this.rate = rate;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public BigDecimal getRate() {
+        return rate;
+    }
+
+    public void setRate(BigDecimal rate) {
+        this.rate = rate;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
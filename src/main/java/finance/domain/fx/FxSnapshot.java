@@ -0,0 +1,43 @@
+package finance.domain.fx;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import finance.domain.money.Money;
+
+/**
+ * Cópia imutável da tabela de câmbio. Cada taxa é o valor de uma unidade da
+ * moeda na moeda base; a base sempre vale 1. Converter não consulta o banco.
+ */
+public record FxSnapshot(String baseCurrency, Map<String, Double> rates, LocalDateTime loadedAt) {
+
+    public FxSnapshot {
+        rates = Map.copyOf(rates);
+    }
+
+    public boolean supports(String currency) {
+        return baseCurrency.equals(currency) || rates.containsKey(currency);
+    }
+
+    // null quando não há cotação para alguma das moedas
+    public Money convert(Money amount, String from, String to) {
+        if (from.equals(to) || amount.isZero()) {
+            return amount;
+        }
+        Double fromRate = rateOf(from);
+        Double toRate = rateOf(to);
+        if (fromRate == null || toRate == null) {
+            return null;
+        }
+        double cents = amount.cents() * (fromRate / toRate);
+        // acima de 2^53 o double perde centavos
+        if (Math.abs(cents) >= 0x1p53) {
+            throw new ArithmeticException("Valor fora do intervalo de conversão");
+        }
+        return Money.ofCents(Math.round(cents));
+    }
+
+    private Double rateOf(String currency) {
+        return baseCurrency.equals(currency) ? Double.valueOf(1.0) : rates.get(currency);
+    }
+}
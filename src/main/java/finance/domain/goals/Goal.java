@@ -0,0 +1,118 @@
+package finance.domain.goals;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import finance.domain.user.User;
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "goals", indexes = {
+        @Index(name = "idx_goals_user_deadline", columnList = "user_id, deadline")
+})
+public class Goal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    @Column(name = "target_amount", nullable = false)
+    private BigDecimal targetAmount;
+
+    @Column(name = "saved_amount", nullable = false)
+    private BigDecimal savedAmount;
+
+    @Column(nullable = false)
+    private LocalDate deadline;
+
+    @Enumerated(EnumType.STRING)
+    private GoalStatus status;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public Goal() {
+    }
+
+    public Goal(User user, String title, BigDecimal targetAmount, BigDecimal savedAmount, LocalDate deadline) {
+        this.user = user;
+        this.title = title;
+        this.targetAmount = targetAmount;
+        this.savedAmount = savedAmount;
+        this.deadline = deadline;
+        this.status = GoalStatus.ACTIVE;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public BigDecimal getTargetAmount() {
+        return targetAmount;
+    }
+
+    public void setTargetAmount(BigDecimal targetAmount) {
+        this.targetAmount = targetAmount;
+    }
+
+    public BigDecimal getSavedAmount() {
+        return savedAmount;
+    }
+
+    public void setSavedAmount(BigDecimal savedAmount) {
+        this.savedAmount = savedAmount;
+    }
+
+    public LocalDate getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(LocalDate deadline) {
+        this.deadline = deadline;
+    }
+
+    public GoalStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(GoalStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
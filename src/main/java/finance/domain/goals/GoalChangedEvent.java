@@ -0,0 +1,5 @@
+package finance.domain.goals;
+
+// publicado quando uma meta é alterada ou removida; a projeção dela é descartada após o commit
+public record GoalChangedEvent(Long userId, Long goalId) {
+}
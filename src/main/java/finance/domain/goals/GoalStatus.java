@@ -0,0 +1,14 @@
+package finance.domain.goals;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+public enum GoalStatus {
+    ACTIVE,
+    COMPLETED,
+    CANCELED;
+
+    @JsonCreator
+    public static GoalStatus fromString(String value) {
+        return GoalStatus.valueOf(value.toUpperCase());
+    }
+}
@@ -0,0 +1,70 @@
+package finance.domain.insights;
+
+import java.time.LocalDateTime;
+
+import finance.domain.user.User;
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "insights", indexes = {
+        @Index(name = "idx_insights_user_created", columnList = "user_id, created_at"),
+        @Index(name = "idx_insights_run_user", columnList = "run_id, user_id")
+})
+public class Insight {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private InsightType kind;
+
+    @Column(length = 150)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String message;
+
+    // execução do job que gerou o insight; permite refazer uma partição sem duplicar
+    @Column(name = "run_id")
+    private Long runId;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    public Insight() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public InsightType getKind() {
+        return kind;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public Long getRunId() {
+        return runId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
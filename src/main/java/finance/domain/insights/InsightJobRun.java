@@ -0,0 +1,95 @@
+package finance.domain.insights;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+// checkpoint do job de insights: todo usuário com id <= lastUserId já foi processado
+@Entity
+@Table(name = "insight_job_runs", uniqueConstraints = @UniqueConstraint(name = "uk_insight_runs_month",
+        columnNames = "reference_month"))
+public class InsightJobRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // primeiro dia do mês analisado (último mês fechado no início da execução)
+    @Column(name = "reference_month", nullable = false)
+    private LocalDate referenceMonth;
+
+    @Column(name = "last_user_id", nullable = false)
+    private long lastUserId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private InsightJobStatus status;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    // nó que detém a execução até lease_until; gravados pelo job via SQL condicional
+    @Column(length = 36)
+    private String owner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    public InsightJobRun() {
+    }
+
+    public InsightJobRun(LocalDate referenceMonth) {
+        this.referenceMonth = referenceMonth;
+        this.lastUserId = 0;
+        this.status = InsightJobStatus.RUNNING;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDate getReferenceMonth() {
+        return referenceMonth;
+    }
+
+    public long getLastUserId() {
+        return lastUserId;
+    }
+
+    public void setLastUserId(long lastUserId) {
+        this.lastUserId = lastUserId;
+    }
+
+    public InsightJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(InsightJobStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public LocalDateTime getLeaseUntil() {
+        return leaseUntil;
+    }
+}
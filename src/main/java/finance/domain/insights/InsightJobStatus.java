@@ -0,0 +1,6 @@
+package finance.domain.insights;
+
+public enum InsightJobStatus {
+    RUNNING,
+    COMPLETED
+}
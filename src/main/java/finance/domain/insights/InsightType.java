@@ -0,0 +1,14 @@
+package finance.domain.insights;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+public enum InsightType {
+    CATEGORY_SPIKE,
+    RECURRING_SUBSCRIPTION,
+    UNUSUAL_FEE;
+
+    @JsonCreator
+    public static InsightType fromString(String value) {
+        return InsightType.valueOf(value.toUpperCase());
+    }
+}
@@ -0,0 +1,67 @@
+package finance.domain.investments;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import finance.domain.acounts.Account;
+import jakarta.persistence.*;
+
+// posição de uma conta de investimento em um ativo da série de preços
+@Entity
+@Table(name = "holdings", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_holdings_account_instrument", columnNames = { "account_id", "instrument" })
+})
+public class Holding {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_id", nullable = false)
+    private Account account;
+
+    @Column(nullable = false, length = 20)
+    private String instrument;
+
+    @Column(nullable = false, precision = 19, scale = 6)
+    private BigDecimal quantity;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public Holding() {
+    }
+
+    public Holding(Account account, String instrument, BigDecimal quantity) {
+        this.account = account;
+        this.instrument = instrument;
+        this.quantity = quantity;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Account getAccount() {
+        return account;
+    }
+
+    public String getInstrument() {
+        return instrument;
+    }
+
+    public BigDecimal getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(BigDecimal quantity) {
+        this.quantity = quantity;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
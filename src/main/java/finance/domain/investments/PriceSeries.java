@@ -0,0 +1,62 @@
+package finance.domain.investments;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Série diária de fechamentos, imutável, em arrays primitivos.
+ *
+ * Cada ativo tem um índice; closes[i] cobre os dias de firstDay[i] em diante
+ * (epoch day), um valor por dia corrido. Dias sem pregão repetem o último
+ * fechamento na carga, então o preço de qualquer dia é um acesso direto ao
+ * array, sem busca.
+ */
+public final class PriceSeries {
+
+    public static final PriceSeries EMPTY = new PriceSeries(Map.of(), new int[0], new double[0][], LocalDateTime.now());
+
+    private final Map<String, Integer> index;
+    private final int[] firstDay;
+    private final double[][] closes;
+    private final LocalDateTime loadedAt;
+
+    public PriceSeries(Map<String, Integer> index, int[] firstDay, double[][] closes, LocalDateTime loadedAt) {
+        this.index = Map.copyOf(index);
+        this.firstDay = firstDay;
+        this.closes = closes;
+        this.loadedAt = loadedAt;
+    }
+
+    // -1 quando o ativo não está na série
+    public int indexOf(String instrument) {
+        Integer i = index.get(instrument);
+        return i != null ? i : -1;
+    }
+
+    public int instruments() {
+        return closes.length;
+    }
+
+    // NaN antes do primeiro fechamento; depois do último repete o último valor
+    public double close(int instrument, int epochDay) {
+        double[] series = closes[instrument];
+        int offset = epochDay - firstDay[instrument];
+        if (offset < 0 || series.length == 0) {
+            return Double.NaN;
+        }
+        return series[Math.min(offset, series.length - 1)];
+    }
+
+    public double close(int instrument, LocalDate day) {
+        return close(instrument, (int) day.toEpochDay());
+    }
+
+    public LocalDate lastDay(int instrument) {
+        return LocalDate.ofEpochDay(firstDay[instrument] + closes[instrument].length - 1L);
+    }
+
+    public LocalDateTime loadedAt() {
+        return loadedAt;
+    }
+}
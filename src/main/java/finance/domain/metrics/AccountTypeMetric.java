@@ -0,0 +1,38 @@
+package finance.domain.metrics;
+
+import java.math.BigDecimal;
+
+import finance.domain.acounts.AccountType;
+import jakarta.persistence.*;
+
+// contas ativas e saldo somado por tipo de conta
+@Entity
+@Table(name = "metrics_account_types")
+public class AccountTypeMetric {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private AccountType type;
+
+    @Column(name = "account_count", nullable = false)
+    private long accountCount;
+
+    @Column(name = "total_balance", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalBalance;
+
+    public AccountTypeMetric() {
+    }
+
+    public AccountType getType() {
+        return type;
+    }
+
+    public long getAccountCount() {
+        return accountCount;
+    }
+
+    public BigDecimal getTotalBalance() {
+        return totalBalance;
+    }
+}
@@ -0,0 +1,69 @@
+package finance.domain.metrics;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import finance.domain.transactions.TypeTransaction;
+import jakarta.persistence.*;
+
+// volume diário de transações por categoria, tipo e moeda da conta; category_id 0 = sem categoria
+@Entity
+@Table(name = "metrics_daily_transactions", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_metrics_daily", columnNames = { "day", "category_id", "type", "currency" })
+})
+public class DailyTransactionMetric {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private TypeTransaction type;
+
+    @Column(nullable = false, length = 3)
+    private String currency;
+
+    @Column(name = "tx_count", nullable = false)
+    private long count;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount;
+
+    public DailyTransactionMetric() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public TypeTransaction getType() {
+        return type;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+}
@@ -0,0 +1,61 @@
+package finance.domain.metrics;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+// linha única (id = 1): totais globais e a marca d'água da agregação incremental
+@Entity
+@Table(name = "metrics_state")
+public class MetricsState {
+
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(name = "users_count", nullable = false)
+    private long usersCount;
+
+    // toda transação com id <= lastTransactionId já está em metrics_daily_transactions
+    @Column(name = "last_transaction_id", nullable = false)
+    private long lastTransactionId;
+
+    @Column(name = "refreshed_at")
+    private LocalDateTime refreshedAt;
+
+    // contas em moeda sem cotação, fora de metrics_account_types.total_balance
+    @Column(name = "unpriced_accounts", nullable = false)
+    private long unpricedAccounts;
+
+    // moedas dessas contas, separadas por vírgula
+    @Column(name = "unpriced_currencies")
+    private String unpricedCurrencies;
+
+    public MetricsState() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public long getUsersCount() {
+        return usersCount;
+    }
+
+    public long getLastTransactionId() {
+        return lastTransactionId;
+    }
+
+    public LocalDateTime getRefreshedAt() {
+        return refreshedAt;
+    }
+
+    public long getUnpricedAccounts() {
+        return unpricedAccounts;
+    }
+
+    public String getUnpricedCurrencies() {
+        return unpricedCurrencies;
+    }
+}
@@ -0,0 +1,27 @@
+package finance.domain.recurrence;
+
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+public enum FrequencyRecurrence {
+    DAILY,
+    WEEKLY,
+    MONTHLY,
+    YEARLY;
+
+    @JsonCreator
+    public static FrequencyRecurrence fromString(String value) {
+        return FrequencyRecurrence.valueOf(value.toUpperCase());
+    }
+
+    // próxima data de execução a partir da data informada
+    public LocalDate next(LocalDate from) {
+        return switch (this) {
+            case DAILY -> from.plusDays(1);
+            case WEEKLY -> from.plusWeeks(1);
+            case MONTHLY -> from.plusMonths(1);
+            case YEARLY -> from.plusYears(1);
+        };
+    }
+}
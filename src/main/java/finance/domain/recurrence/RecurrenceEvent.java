@@ -0,0 +1,157 @@
+package finance.domain.recurrence;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import finance.domain.acounts.Account;
+import finance.domain.transactions.TypeTransaction;
+import finance.domain.user.User;
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "recurrence_events", indexes = {
+        @Index(name = "idx_recurrence_due", columnList = "active, next_run"),
+        @Index(name = "idx_recurrence_user_active", columnList = "user_id, active, next_run")
+})
+public class RecurrenceEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_id", nullable = false)
+    private Account account;
+
+    private String name;
+
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Enumerated(EnumType.STRING)
+    private TypeTransaction type;
+
+    private BigDecimal amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private FrequencyRecurrence frequency;
+
+    @Column(name = "next_run", nullable = false)
+    private LocalDate nextRun;
+
+    @Column(nullable = false)
+    private boolean active;
+
+    // última ocorrência não lançada por falta de saldo ou limite
+    @Column(name = "last_skipped_run")
+    private LocalDate lastSkippedRun;
+
+    public RecurrenceEvent() {
+    }
+
+    public RecurrenceEvent(User user, Account account, String name, Long categoryId,
+            TypeTransaction type, BigDecimal amount, FrequencyRecurrence frequency, LocalDate nextRun) {
+        this.user = user;
+        this.account = account;
+        this.name = name;
+        this.categoryId = categoryId;
+        this.type = type;
+        this.amount = amount;
+        this.frequency = frequency;
+        this.nextRun = nextRun;
+        this.active = true;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public Account getAccount() {
+        return account;
+    }
+
+    public void setAccount(Account account) {
+        this.account = account;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public TypeTransaction getType() {
+        return type;
+    }
+
+    public void setType(TypeTransaction type) {
+        this.type = type;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public FrequencyRecurrence getFrequency() {
+        return frequency;
+    }
+
+    public void setFrequency(FrequencyRecurrence frequency) {
+        this.frequency = frequency;
+    }
+
+    public LocalDate getNextRun() {
+        return nextRun;
+    }
+
+    public void setNextRun(LocalDate nextRun) {
+        this.nextRun = nextRun;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public LocalDate getLastSkippedRun() {
+        return lastSkippedRun;
+    }
+
+    public void setLastSkippedRun(LocalDate lastSkippedRun) {
+        this.lastSkippedRun = lastSkippedRun;
+    }
+}
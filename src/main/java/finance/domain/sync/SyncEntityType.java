@@ -0,0 +1,5 @@
+package finance.domain.sync;
+
+public enum SyncEntityType {
+    ACCOUNT, TRANSACTION
+}
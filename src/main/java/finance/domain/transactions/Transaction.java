@@ -1,13 +1,24 @@
 package finance.domain.transactions;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 import finance.domain.acounts.Account;
+import finance.domain.money.Money;
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+        @Index(name = "idx_transactions_category", columnList = "category_id"),
+        @Index(name = "idx_transactions_account_created", columnList = "account_id, created"),
+        @Index(name = "idx_transactions_created", columnList = "created"),
+        @Index(name = "idx_transactions_installment_group", columnList = "installment_group"),
+        @Index(name = "idx_transactions_account_due", columnList = "account_id, due_date"),
+        @Index(name = "idx_transactions_settlement", columnList = "settled, due_date"),
+        @Index(name = "idx_transactions_account_sync", columnList = "account_id, sync_seq")
+})
 public class Transaction {
 
     @Id
@@ -18,27 +29,53 @@ public class Transaction {
     @JoinColumn(name = "account_id", nullable = false)
     private Account account;
 
-    @Enumerated(EnumType.STRING)
-    private CategoryTransactions category;
+    // resolvida pelo CategoryDictionary, sem join com categories
+    @Column(name = "category_id")
+    private Long categoryId;
 
     private String name;
 
     @Enumerated(EnumType.STRING)
     private TypeTransaction type;
 
-    private BigDecimal amount;
+    private Money amount;
 
     private LocalDateTime created;
     private LocalDateTime updated;
 
+    @Column(name = "recurrence_id")
+    private Long recurrenceId;
+
+    @Column(name = "installment_group", length = 40)
+    private String installmentGroup;
+
+    @Column(name = "installment_number")
+    private Integer installmentNumber;
+
+    @Column(name = "installment_total")
+    private Integer installmentTotal;
+
+    // vencimento da parcela; nulo para transações comuns
+    @Column(name = "due_date")
+    private LocalDate dueDate;
+
+    // false enquanto a parcela futura ainda não foi debitada do saldo
+    @Column(nullable = false)
+    private boolean settled = true;
+
+    // data_version do dono da conta na última escrita; base da sincronização incremental
+    @ColumnDefault("0")
+    @Column(name = "sync_seq", nullable = false)
+    private long syncSeq;
+
     public Transaction() {
     }
 
-    public Transaction(Long id, Account account, CategoryTransactions category, String name,
-            TypeTransaction type, BigDecimal amount, LocalDateTime created, LocalDateTime updated) {
+    public Transaction(Long id, Account account, Long categoryId, String name,
+            TypeTransaction type, Money amount, LocalDateTime created, LocalDateTime updated) {
         this.id = id;
         this.account = account;
-        this.category = category;
+        this.categoryId = categoryId;
         this.name = name;
         this.type = type;
         this.amount = amount;
@@ -46,10 +83,10 @@ public class Transaction {
         this.updated = updated;
     }
 
-    public Transaction(Account account, CategoryTransactions category, String name,
-            TypeTransaction type, BigDecimal amount) {
+    public Transaction(Account account, Long categoryId, String name,
+            TypeTransaction type, Money amount) {
         this.account = account;
-        this.category = category;
+        this.categoryId = categoryId;
         this.name = name;
         this.type = type;
         this.amount = amount;
@@ -73,12 +110,12 @@ public class Transaction {
         this.account = account;
     }
 
-    public CategoryTransactions getCategory() {
-        return category;
+    public Long getCategoryId() {
+        return categoryId;
     }
 
-    public void setCategory(CategoryTransactions category) {
-        this.category = category;
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
     }
 
     public String getName() {
@@ -97,11 +134,11 @@ public class Transaction {
         this.type = type;
     }
 
-    public BigDecimal getAmount() {
+    public Money getAmount() {
         return amount;
     }
 
-    public void setAmount(BigDecimal amount) {
+    public void setAmount(Money amount) {
         this.amount = amount;
     }
 
@@ -120,4 +157,60 @@ public class Transaction {
     public void setUpdated(LocalDateTime updated) {
         this.updated = updated;
     }
+
+    public Long getRecurrenceId() {
+        return recurrenceId;
+    }
+
+    public void setRecurrenceId(Long recurrenceId) {
+        this.recurrenceId = recurrenceId;
+    }
+
+    public String getInstallmentGroup() {
+        return installmentGroup;
+    }
+
+    public void setInstallmentGroup(String installmentGroup) {
+        this.installmentGroup = installmentGroup;
+    }
+
+    public Integer getInstallmentNumber() {
+        return installmentNumber;
+    }
+
+    public void setInstallmentNumber(Integer installmentNumber) {
+        this.installmentNumber = installmentNumber;
+    }
+
+    public Integer getInstallmentTotal() {
+        return installmentTotal;
+    }
+
+    public void setInstallmentTotal(Integer installmentTotal) {
+        this.installmentTotal = installmentTotal;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public boolean isSettled() {
+        return settled;
+    }
+
+    public void setSettled(boolean settled) {
+        this.settled = settled;
+    }
+
+    public long getSyncSeq() {
+        return syncSeq;
+    }
+
+    public void setSyncSeq(long syncSeq) {
+        this.syncSeq = syncSeq;
+    }
 }
@@ -0,0 +1,5 @@
+package finance.domain.transactions;
+
+// publicado sempre que as transações de um usuário são criadas, alteradas ou removidas
+public record TransactionsChangedEvent(Long userId) {
+}
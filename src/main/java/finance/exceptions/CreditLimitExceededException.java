@@ -0,0 +1,11 @@
+package finance.exceptions;
+
+import finance.domain.money.Money;
+
+public class CreditLimitExceededException extends BusinessException {
+
+    public CreditLimitExceededException(Money available, Money requiredAmount) {
+        super(String.format("Limite de crédito insuficiente. Disponível: R$ %.2f, Valor necessário: R$ %.2f",
+                available.toBigDecimal(), requiredAmount.toBigDecimal()));
+    }
+}
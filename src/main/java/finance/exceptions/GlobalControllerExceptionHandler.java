@@ -11,6 +11,7 @@ import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -186,6 +187,28 @@ public class GlobalControllerExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handler para ReportUnavailableException e QueryTimeoutException - Relatório recusado ou lento demais
+     */
+    @ExceptionHandler({ ReportUnavailableException.class, QueryTimeoutException.class })
+    public ResponseEntity<ErrorResponse> handleReportUnavailable(
+            RuntimeException ex, WebRequest request) {
+
+        logger.warn("Relatório indisponível: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+            .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+            .message(ex instanceof ReportUnavailableException ? ex.getMessage()
+                    : "Relatório excedeu o tempo limite de consulta")
+            .path(extractPath(request))
+            .errorCode("REPORT_UNAVAILABLE")
+            .build();
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     /**
      * Handler para validação de dados (@Valid)
      */
@@ -2,6 +2,8 @@ package finance.exceptions;
 
 import java.math.BigDecimal;
 
+import finance.domain.money.Money;
+
 public class InsufficientBalanceException extends BusinessException {
 
     public InsufficientBalanceException(BigDecimal currentBalance, BigDecimal requiredAmount) {
@@ -9,6 +11,10 @@ public class InsufficientBalanceException extends BusinessException {
                 currentBalance, requiredAmount));
     }
 
+    public InsufficientBalanceException(Money currentBalance, Money requiredAmount) {
+        this(currentBalance.toBigDecimal(), requiredAmount.toBigDecimal());
+    }
+
     public InsufficientBalanceException(String message) {
         super(message);
     }
@@ -0,0 +1,13 @@
+package finance.exceptions;
+
+// relatório recusado (fila do bulkhead cheia) ou interrompido por tempo limite
+public class ReportUnavailableException extends RuntimeException {
+
+    public ReportUnavailableException(String message) {
+        super(message);
+    }
+
+    public ReportUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
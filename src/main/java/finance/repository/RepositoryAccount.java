@@ -1,15 +1,159 @@
 package finance.repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import finance.domain.acounts.Account;
+import finance.domain.acounts.AccountType;
+import finance.domain.money.Money;
+import finance.domain.transactions.TypeTransaction;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface RepositoryAccount extends JpaRepository<Account, Long> {
 
     List<Account> findByUserId(Long userId);
 
+    // trava as contas em ordem de id (evita deadlock entre lotes) antes de validar débitos
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.id IN :ids ORDER BY a.id")
+    List<Account> findAllForUpdate(@Param("ids") Collection<Long> ids);
+
+    // saldo lido com lock para validar e aplicar um débito (ler, calcular, gravar) sem perder escritas
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.id = :id")
+    Optional<Account> findForUpdateById(@Param("id") Long id);
+
+    // listagem por keyset: a página começa depois do último id visto, sem OFFSET
+    @Query("""
+            SELECT a FROM Account a
+            WHERE a.id > :afterId
+              AND (:type IS NULL OR a.type = :type)
+              AND (:userId IS NULL OR a.user.id = :userId)
+              AND (:createdFrom IS NULL OR a.createdAt >= :createdFrom)
+              AND (:createdTo IS NULL OR a.createdAt < :createdTo)
+            ORDER BY a.id
+            """)
+    List<Account> findPageAfter(@Param("afterId") long afterId,
+            @Param("type") AccountType type,
+            @Param("userId") Long userId,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo,
+            Limit limit);
+
+    // mesma seleção, só os ids: usada para fatiar as operações em lote
+    @Query("""
+            SELECT a.id FROM Account a
+            WHERE a.id > :afterId
+              AND (:type IS NULL OR a.type = :type)
+              AND (:userId IS NULL OR a.user.id = :userId)
+              AND (:createdFrom IS NULL OR a.createdAt >= :createdFrom)
+              AND (:createdTo IS NULL OR a.createdAt < :createdTo)
+            ORDER BY a.id
+            """)
+    List<Long> findIdsAfter(@Param("afterId") long afterId,
+            @Param("type") AccountType type,
+            @Param("userId") Long userId,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo,
+            Limit limit);
+
+    @Query("""
+            SELECT COUNT(a) FROM Account a
+            WHERE (:type IS NULL OR a.type = :type)
+              AND (:userId IS NULL OR a.user.id = :userId)
+              AND (:createdFrom IS NULL OR a.createdAt >= :createdFrom)
+              AND (:createdTo IS NULL OR a.createdAt < :createdTo)
+            """)
+    long countFiltered(@Param("type") AccountType type,
+            @Param("userId") Long userId,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo);
+
+    // estatísticas de todas as contas do usuário em uma única consulta agrupada
+    @Query("""
+            SELECT a.id AS accountId,
+                   COUNT(t.id) AS transactionCount,
+                   MAX(t.created) AS lastTransactionAt,
+                   COALESCE(SUM(CASE WHEN t.type = :income AND t.created >= :monthStart THEN t.amount END), 0) AS monthIncome,
+                   COALESCE(SUM(CASE WHEN t.type = :expense AND t.created >= :monthStart THEN t.amount END), 0) AS monthExpense
+            FROM Account a LEFT JOIN Transaction t ON t.account = a
+            WHERE a.user.id = :userId
+            GROUP BY a.id
+            """)
+    List<AccountStats> statsByUserId(@Param("userId") Long userId,
+            @Param("monthStart") LocalDateTime monthStart,
+            @Param("income") TypeTransaction income,
+            @Param("expense") TypeTransaction expense);
+
+    // aplica um delta no saldo sem carregar a entidade
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "accounts"))
+    @Query(value = "UPDATE accounts SET balance = balance + :delta WHERE id = :id", nativeQuery = true)
+    int addToBalance(@Param("id") Long id, @Param("delta") BigDecimal delta);
+
+    // campos nulos mantêm o valor atual; não carrega as entidades
+    @Modifying
+    @Query("""
+            UPDATE Account a SET
+                a.name = COALESCE(:name, a.name),
+                a.type = COALESCE(:type, a.type),
+                a.balance = COALESCE(:balance, a.balance)
+            WHERE a.id IN :ids AND a.deletedAt IS NULL
+            """)
+    int bulkPatch(@Param("ids") List<Long> ids,
+            @Param("name") String name,
+            @Param("type") AccountType type,
+            @Param("balance") Money balance);
+
+    // carimba a data_version atual do dono (já incrementada na transação) em escritas nativas ou em lote
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "accounts"))
+    @Query(value = """
+            UPDATE accounts a JOIN users u ON u.id = a.user_id
+            SET a.sync_seq = u.data_version
+            WHERE a.id IN (:ids)
+            """, nativeQuery = true)
+    int stampSyncSeq(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT a FROM Account a WHERE a.user.id = :userId AND a.syncSeq > :since AND a.syncSeq <= :upTo")
+    List<Account> findChangedSince(@Param("userId") Long userId, @Param("since") long since,
+            @Param("upTo") long upTo);
+
+    @Query("SELECT a.id FROM Account a WHERE a.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT DISTINCT a.user.id FROM Account a WHERE a.id IN :ids")
+    List<Long> findUserIdsByIds(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Account a SET a.deletedAt = :now WHERE a.id IN :ids AND a.deletedAt IS NULL")
+    int softDeleteByIds(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    interface AccountStats {
+        Long getAccountId();
+
+        Long getTransactionCount();
+
+        LocalDateTime getLastTransactionAt();
+
+        BigDecimal getMonthIncome();
+
+        BigDecimal getMonthExpense();
+    }
+
 }
@@ -0,0 +1,33 @@
+package finance.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import finance.domain.acounts.AccountPurge;
+import finance.domain.acounts.PurgeStatus;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface RepositoryAccountPurge extends JpaRepository<AccountPurge, Long> {
+
+    List<AccountPurge> findByStatusNotOrderById(PurgeStatus status);
+
+    // enfileira o purge das contas ainda ativas do lote; precisa rodar antes do soft delete
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "account_purges"))
+    @Query(value = """
+            INSERT INTO account_purges (account_id, user_id, status, deleted_rows, requested_at, updated_at)
+            SELECT a.id, a.user_id, 'PENDING', 0, :now, :now FROM accounts a
+            WHERE a.id IN :ids AND a.deleted_at IS NULL
+            """, nativeQuery = true)
+    int enqueueAll(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+}
@@ -0,0 +1,11 @@
+package finance.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import finance.domain.acounts.AccountType;
+import finance.domain.metrics.AccountTypeMetric;
+
+@Repository
+public interface RepositoryAccountTypeMetric extends JpaRepository<AccountTypeMetric, AccountType> {
+}
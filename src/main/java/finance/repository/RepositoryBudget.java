@@ -0,0 +1,45 @@
+package finance.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import finance.domain.budgets.Budget;
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface RepositoryBudget extends JpaRepository<Budget, Long> {
+
+    List<Budget> findByUserIdAndYearAndMonthOrderByCategoryId(Long userId, int year, int month);
+
+    boolean existsByUserIdAndCategoryIdAndYearAndMonth(Long userId, Long categoryId, int year, int month);
+
+    // trava a linha para que gastos concorrentes não percam incrementos
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Budget> findForUpdateByUserIdAndCategoryIdAndYearAndMonth(Long userId, Long categoryId,
+            int year, int month);
+
+    // usado uma única vez, ao criar um orçamento para um mês que já tem gastos
+    @Query("""
+            SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t
+            WHERE t.account.user.id = :userId
+              AND t.type = finance.domain.transactions.TypeTransaction.EXPENSE
+              AND t.categoryId = :categoryId
+              AND t.created >= :start AND t.created < :end
+            """)
+    BigDecimal sumExpenses(@Param("userId") Long userId, @Param("categoryId") Long categoryId,
+            @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Modifying
+    @Query("DELETE FROM Budget b WHERE b.categoryId = :categoryId")
+    int deleteByCategoryId(@Param("categoryId") Long categoryId);
+
+}
@@ -0,0 +1,21 @@
+package finance.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import finance.domain.categories.Category;
+
+@Repository
+public interface RepositoryCategory extends JpaRepository<Category, Long> {
+
+    List<Category> findByUserIsNull();
+
+    List<Category> findByUserId(Long userId);
+
+    boolean existsByUserIdAndNameIgnoreCase(Long userId, String name);
+
+    boolean existsByUserIdAndNameIgnoreCaseAndIdNot(Long userId, String name, Long id);
+
+}
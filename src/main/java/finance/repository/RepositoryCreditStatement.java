@@ -0,0 +1,49 @@
+package finance.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import finance.domain.credit.CreditStatement;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface RepositoryCreditStatement extends JpaRepository<CreditStatement, Long> {
+
+    Optional<CreditStatement> findByAccountIdAndClosingDate(Long accountId, LocalDate closingDate);
+
+    List<CreditStatement> findByAccountIdOrderByClosingDateDesc(Long accountId, Limit limit);
+
+    // cria a fatura do ciclo na primeira transação e soma os deltas nas seguintes
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "credit_statements"))
+    @Query(value = """
+            INSERT INTO credit_statements (account_id, cycle_start, closing_date, due_date, charges, payments,
+                transaction_count, updated_at)
+            VALUES (:accountId, :cycleStart, :closingDate, :dueDate, :charges, :payments, :count, :now) AS d
+            ON DUPLICATE KEY UPDATE charges = credit_statements.charges + d.charges,
+                payments = credit_statements.payments + d.payments,
+                transaction_count = credit_statements.transaction_count + d.transaction_count,
+                updated_at = d.updated_at
+            """, nativeQuery = true)
+    int addToCycle(@Param("accountId") Long accountId,
+            @Param("cycleStart") LocalDate cycleStart,
+            @Param("closingDate") LocalDate closingDate,
+            @Param("dueDate") LocalDate dueDate,
+            @Param("charges") BigDecimal charges,
+            @Param("payments") BigDecimal payments,
+            @Param("count") int count,
+            @Param("now") LocalDateTime now);
+
+}
@@ -0,0 +1,16 @@
+package finance.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import finance.domain.metrics.DailyTransactionMetric;
+
+@Repository
+public interface RepositoryDailyTransactionMetric extends JpaRepository<DailyTransactionMetric, Long> {
+
+    List<DailyTransactionMetric> findByDayBetweenOrderByDayAscCategoryIdAscCurrencyAsc(LocalDate from, LocalDate to);
+
+}
@@ -0,0 +1,10 @@
+package finance.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import finance.domain.fx.FxRate;
+
+@Repository
+public interface RepositoryFxRate extends JpaRepository<FxRate, String> {
+}
@@ -0,0 +1,15 @@
+package finance.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import finance.domain.goals.Goal;
+
+@Repository
+public interface RepositoryGoal extends JpaRepository<Goal, Long> {
+
+    List<Goal> findByUserIdOrderByDeadline(Long userId);
+
+}
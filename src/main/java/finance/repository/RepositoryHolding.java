@@ -0,0 +1,18 @@
+package finance.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import finance.domain.investments.Holding;
+
+@Repository
+public interface RepositoryHolding extends JpaRepository<Holding, Long> {
+
+    List<Holding> findByAccountIdOrderByInstrument(Long accountId);
+
+    Optional<Holding> findByAccountIdAndInstrument(Long accountId, String instrument);
+
+}
@@ -0,0 +1,15 @@
+package finance.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import finance.domain.insights.Insight;
+
+@Repository
+public interface RepositoryInsight extends JpaRepository<Insight, Long> {
+
+    List<Insight> findTop50ByUserIdOrderByCreatedAtDesc(Long userId);
+
+}
@@ -0,0 +1,19 @@
+package finance.repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import finance.domain.insights.InsightJobRun;
+import finance.domain.insights.InsightJobStatus;
+
+@Repository
+public interface RepositoryInsightJobRun extends JpaRepository<InsightJobRun, Long> {
+
+    Optional<InsightJobRun> findFirstByStatusOrderByIdDesc(InsightJobStatus status);
+
+    Optional<InsightJobRun> findByReferenceMonth(LocalDate referenceMonth);
+
+}
@@ -0,0 +1,10 @@
+package finance.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import finance.domain.metrics.MetricsState;
+
+@Repository
+public interface RepositoryMetricsState extends JpaRepository<MetricsState, Long> {
+}
@@ -0,0 +1,42 @@
+package finance.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import finance.domain.recurrence.RecurrenceEvent;
+
+@Repository
+public interface RepositoryRecurrence extends JpaRepository<RecurrenceEvent, Long> {
+
+    List<RecurrenceEvent> findByUserIdAndActiveTrueOrderByNextRun(Long userId);
+
+    // reivindica um lote de recorrências vencidas; SKIP LOCKED deixa outros nós
+    // pegarem as linhas seguintes em vez de esperar pelo lock
+    @Query(value = """
+            SELECT * FROM recurrence_events
+            WHERE active = true AND next_run <= :today
+            ORDER BY next_run, id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<RecurrenceEvent> claimDue(@Param("today") LocalDate today, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE RecurrenceEvent r SET r.active = false WHERE r.account.id = :accountId")
+    int deactivateByAccountId(@Param("accountId") Long accountId);
+
+    @Modifying
+    @Query("UPDATE RecurrenceEvent r SET r.active = false WHERE r.account.id IN :accountIds")
+    int deactivateByAccountIds(@Param("accountIds") List<Long> accountIds);
+
+    @Modifying
+    @Query("UPDATE RecurrenceEvent r SET r.categoryId = null WHERE r.categoryId = :categoryId")
+    int clearCategory(@Param("categoryId") Long categoryId);
+
+}
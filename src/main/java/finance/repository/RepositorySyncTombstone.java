@@ -0,0 +1,33 @@
+package finance.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import finance.domain.sync.SyncTombstone;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface RepositorySyncTombstone extends JpaRepository<SyncTombstone, Long> {
+
+    List<SyncTombstone> findByUserIdAndSeqGreaterThanAndSeqLessThanEqualOrderBySeq(Long userId, long since, long upTo);
+
+    // uma lápide por conta, com a versão atual do dono (já incrementada pela transação)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "sync_tombstones"))
+    @Query(value = """
+            INSERT INTO sync_tombstones (user_id, seq, entity_type, entity_id, deleted_at)
+            SELECT a.user_id, u.data_version, 'ACCOUNT', a.id, :now
+            FROM accounts a JOIN users u ON u.id = a.user_id
+            WHERE a.id IN (:accountIds)
+            """, nativeQuery = true)
+    int insertForAccounts(@Param("accountIds") List<Long> accountIds, @Param("now") LocalDateTime now);
+
+}
@@ -1,16 +1,143 @@
 package finance.repository;
 
 import finance.domain.transactions.Transaction;
+import finance.domain.transactions.TypeTransaction;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface RepositoryTransactions extends JpaRepository<Transaction, Long> {
+public interface RepositoryTransactions extends JpaRepository<Transaction, Long>, RepositoryTransactionsCustom {
 
     List<Transaction> findByAccountId(Long accountId);
 
     List<Transaction> findByAccountIdOrderByCreatedDesc(Long accountId);
 
+    // últimas transações de uma conta até um instante: varre idx_transactions_account_created
+    // de trás para frente e para no limite, sem filesort
+    @Query("""
+            SELECT t FROM Transaction t
+            WHERE t.account.id = :accountId AND t.created <= :until
+            ORDER BY t.created DESC, t.id DESC
+            """)
+    List<Transaction> findRecentByAccountId(@Param("accountId") Long accountId, @Param("until") LocalDateTime until,
+            Limit limit);
+
+    // receitas e despesas do usuário a partir de uma data, separadas pela moeda da conta
+    @Query("""
+            SELECT a.currency AS currency, t.type AS type, SUM(t.amount) AS total
+            FROM Transaction t JOIN t.account a
+            WHERE a.user.id = :userId AND t.created >= :since
+            GROUP BY a.currency, t.type
+            """)
+    List<TypeTotal> totalsByTypeSince(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    // usa idx_transactions_installment_group
+    List<Transaction> findByInstallmentGroupOrderByInstallmentNumber(String installmentGroup);
+
+    // o parcelamento só volta se a conta for do usuário; de outro usuário fica vazio (404)
+    @Query("""
+            SELECT t FROM Transaction t
+            WHERE t.installmentGroup = :group AND t.account.user.id = :userId
+            ORDER BY t.installmentNumber
+            """)
+    List<Transaction> findInstallmentGroup(@Param("group") String group, @Param("userId") Long userId);
+
+    // usa idx_transactions_account_due: só percorre as parcelas do intervalo
+    @Query("""
+            SELECT t FROM Transaction t
+            WHERE t.account.user.id = :userId
+              AND t.installmentGroup IS NOT NULL
+              AND t.dueDate BETWEEN :start AND :end
+            ORDER BY t.dueDate, t.id
+            """)
+    List<Transaction> findInstallmentsDueBetween(@Param("userId") Long userId,
+            @Param("start") LocalDate start, @Param("end") LocalDate end);
+
+    // parcelas vencidas e ainda não debitadas, reivindicadas para liquidação;
+    // percorridas por id para que as que ficam em aberto não voltem no mesmo ciclo
+    @Query(value = """
+            SELECT id, account_id AS accountId, amount FROM transactions
+            WHERE settled = false AND due_date <= :today AND id > :afterId
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<DueInstallment> claimDueInstallments(@Param("today") LocalDate today, @Param("afterId") long afterId,
+            @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE Transaction t SET t.settled = true WHERE t.id IN :ids")
+    int markSettled(@Param("ids") List<Long> ids);
+
+    // mesma ideia de RepositoryAccount.stampSyncSeq, para transações alteradas em lote
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "transactions"))
+    @Query(value = """
+            UPDATE transactions t
+                JOIN accounts a ON a.id = t.account_id
+                JOIN users u ON u.id = a.user_id
+            SET t.sync_seq = u.data_version
+            WHERE t.id IN (:ids)
+            """, nativeQuery = true)
+    int stampSyncSeq(@Param("ids") List<Long> ids);
+
+    @Query("SELECT t FROM Transaction t WHERE t.account.id IN :accountIds AND t.syncSeq > :since AND t.syncSeq <= :upTo")
+    List<Transaction> findChangedSince(@Param("accountIds") List<Long> accountIds, @Param("since") long since,
+            @Param("upTo") long upTo);
+
+    // totais mensais por tipo, base da distribuição usada nas projeções
+    @Query("""
+            SELECT YEAR(t.created) AS year, MONTH(t.created) AS month, t.type AS type, SUM(t.amount) AS total
+            FROM Transaction t
+            WHERE t.account.user.id = :userId
+              AND t.created >= :since AND t.created < :until
+            GROUP BY YEAR(t.created), MONTH(t.created), t.type
+            """)
+    List<MonthlyTotal> monthlyTotals(@Param("userId") Long userId,
+            @Param("since") LocalDateTime since, @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("UPDATE Transaction t SET t.categoryId = null, t.syncSeq = :seq WHERE t.categoryId = :categoryId")
+    int clearCategory(@Param("categoryId") Long categoryId, @Param("seq") long seq);
+
+    interface TypeTotal {
+        String getCurrency();
+
+        TypeTransaction getType();
+
+        BigDecimal getTotal();
+    }
+
+    interface MonthlyTotal {
+        Integer getYear();
+
+        Integer getMonth();
+
+        TypeTransaction getType();
+
+        BigDecimal getTotal();
+    }
+
+    interface DueInstallment {
+        Long getId();
+
+        Long getAccountId();
+
+        BigDecimal getAmount();
+    }
+
 }
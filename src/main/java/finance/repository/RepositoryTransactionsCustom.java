@@ -0,0 +1,12 @@
+package finance.repository;
+
+import java.util.List;
+
+import finance.domain.transactions.Transaction;
+
+public interface RepositoryTransactionsCustom {
+
+    // insere as transações em lotes JDBC (IDENTITY desativa o batch do Hibernate)
+    void insertBatch(List<Transaction> transactions);
+
+}
@@ -0,0 +1,54 @@
+package finance.repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import finance.domain.transactions.Transaction;
+
+public class RepositoryTransactionsCustomImpl implements RepositoryTransactionsCustom {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO transactions (account_id, category_id, name, type, amount, created, updated, recurrence_id,
+                installment_group, installment_number, installment_total, due_date, settled, sync_seq)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RepositoryTransactionsCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertBatch(List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, transactions, BATCH_SIZE, (ps, t) -> {
+            ps.setLong(1, t.getAccount().getId());
+            ps.setObject(2, t.getCategoryId(), Types.BIGINT);
+            ps.setString(3, t.getName());
+            ps.setString(4, t.getType().name());
+            ps.setBigDecimal(5, t.getAmount().toBigDecimal());
+            ps.setTimestamp(6, Timestamp.valueOf(t.getCreated()));
+            ps.setTimestamp(7, Timestamp.valueOf(t.getUpdated()));
+            if (t.getRecurrenceId() != null) {
+                ps.setLong(8, t.getRecurrenceId());
+            } else {
+                ps.setNull(8, Types.BIGINT);
+            }
+            ps.setString(9, t.getInstallmentGroup());
+            ps.setObject(10, t.getInstallmentNumber(), Types.INTEGER);
+            ps.setObject(11, t.getInstallmentTotal(), Types.INTEGER);
+            ps.setObject(12, t.getDueDate() != null ? Date.valueOf(t.getDueDate()) : null, Types.DATE);
+            ps.setBoolean(13, t.isSettled());
+            ps.setLong(14, t.getSyncSeq());
+        });
+    }
+}
@@ -1,9 +1,18 @@
 package finance.repository;
 
+import java.util.Collection;
+import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import finance.domain.user.User;
+import jakarta.persistence.QueryHint;
 
 
 @Repository
@@ -11,7 +20,23 @@ public interface RepositoryUser extends JpaRepository<User, Long> {
 
 User findByUsername(String username);
 
-  
-    
+    @Query("SELECT u.dataVersion FROM User u WHERE u.id = :id")
+    Optional<Long> findDataVersion(@Param("id") Long id);
+
+    // espaço próprio: User não lê data_version, então o incremento (a cada escrita) não esvazia a região de User
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users.data_version"))
+    @Query(value = "UPDATE users SET data_version = data_version + 1 WHERE id = :id", nativeQuery = true)
+    int incrementDataVersion(@Param("id") Long id);
+
+    // um incremento por usuário, mesmo com várias contas dele na lista
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users.data_version"))
+    @Query(value = """
+            UPDATE users u JOIN (SELECT DISTINCT user_id FROM accounts WHERE id IN (:accountIds)) a
+                ON a.user_id = u.id
+            SET u.data_version = u.data_version + 1
+            """, nativeQuery = true)
+    int incrementDataVersionByAccounts(@Param("accountIds") Collection<Long> accountIds);
 
 }
@@ -0,0 +1,54 @@
+package finance.services;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import finance.domain.dto.accounts.AccountFilterDTO;
+import finance.repository.RepositoryAccount;
+
+/**
+ * Total aproximado da listagem administrativa de contas. O COUNT de cada
+ * combinação de filtros é guardado por ttl-ms; páginas seguintes e outros
+ * admins reutilizam o valor em vez de contar a tabela a cada requisição.
+ */
+@Component
+public class AccountCountCache {
+
+    private final RepositoryAccount accountRepository;
+    private final long ttlMs;
+    private final int maxEntries;
+    private final Map<AccountFilterDTO, Entry> counts = new ConcurrentHashMap<>();
+
+    public AccountCountCache(RepositoryAccount accountRepository,
+            @Value("${finance.admin.count-ttl-ms:60000}") long ttlMs,
+            @Value("${finance.admin.count-max-entries:1000}") int maxEntries) {
+        this.accountRepository = accountRepository;
+        this.ttlMs = ttlMs;
+        this.maxEntries = maxEntries;
+    }
+
+    public long estimate(AccountFilterDTO filter) {
+        long now = System.currentTimeMillis();
+        Entry entry = counts.get(filter);
+        if (entry != null && entry.expiresAt() > now) {
+            return entry.count();
+        }
+        long count = accountRepository.countFiltered(
+                filter.type(), filter.userId(), filter.createdFrom(), filter.createdTo());
+        if (counts.size() >= maxEntries) {
+            counts.clear();
+        }
+        counts.put(filter, new Entry(count, now + ttlMs));
+        return count;
+    }
+
+    public void invalidate() {
+        counts.clear();
+    }
+
+    private record Entry(long count, long expiresAt) {
+    }
+}
@@ -0,0 +1,194 @@
+package finance.services;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import finance.domain.acounts.Account;
+import finance.domain.acounts.AccountPurge;
+import finance.domain.acounts.PurgeStatus;
+import finance.domain.dto.accounts.AccountPurgeResponseDTO;
+import finance.domain.sync.SyncEntityType;
+import finance.domain.sync.SyncTombstone;
+import finance.domain.transactions.TransactionsChangedEvent;
+import finance.repository.RepositoryAccount;
+import finance.repository.RepositoryAccountPurge;
+import finance.repository.RepositoryRecurrence;
+import finance.repository.RepositorySyncTombstone;
+import jakarta.transaction.Transactional;
+
+/**
+ * Exclusão de contas em duas fases.
+ *
+ * A requisição só marca a conta como excluída (deleted_at), desativa suas
+ * recorrências e enfileira um purge, em tempo constante. Este job remove as
+ * transações em lotes pequenos, cada um commitado separadamente, com uma
+ * pausa entre lotes; o progresso fica em account_purges. Quando não sobra
+ * nenhuma transação, a linha da conta é apagada. Um purge RUNNING sem
+ * progresso há mais de stale-ms é retomado por outro nó.
+ */
+@Component
+public class AccountPurgeJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountPurgeJob.class);
+
+    private static final String CLAIM_SQL = """
+            SELECT id, account_id FROM account_purges
+            WHERE status = 'PENDING' OR (status = 'RUNNING' AND updated_at < ?)
+            ORDER BY id
+            LIMIT 1
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String DELETE_CHUNK_SQL = "DELETE FROM transactions WHERE account_id = ? LIMIT ?";
+
+    private static final String PROGRESS_SQL = """
+            UPDATE account_purges SET status = ?, deleted_rows = deleted_rows + ?, updated_at = ?
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RepositoryAccount accountRepository;
+    private final RepositoryAccountPurge purgeRepository;
+    private final RepositoryRecurrence recurrenceRepository;
+    private final RepositorySyncTombstone tombstoneRepository;
+    private final DataVersionTable dataVersionTable;
+    private final ApplicationEventPublisher events;
+    private final int chunkSize;
+    private final long throttleMs;
+    private final long staleMs;
+
+    public AccountPurgeJob(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            RepositoryAccount accountRepository,
+            RepositoryAccountPurge purgeRepository,
+            RepositoryRecurrence recurrenceRepository,
+            RepositorySyncTombstone tombstoneRepository,
+            DataVersionTable dataVersionTable,
+            ApplicationEventPublisher events,
+            @Value("${finance.purge.chunk-size:1000}") int chunkSize,
+            @Value("${finance.purge.throttle-ms:50}") long throttleMs,
+            @Value("${finance.purge.stale-ms:300000}") long staleMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.accountRepository = accountRepository;
+        this.purgeRepository = purgeRepository;
+        this.recurrenceRepository = recurrenceRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.dataVersionTable = dataVersionTable;
+        this.events = events;
+        this.chunkSize = chunkSize;
+        this.throttleMs = throttleMs;
+        this.staleMs = staleMs;
+    }
+
+    // esconde a conta e agenda a remoção; roda na transação de quem chamou
+    @Transactional
+    public void requestPurge(Account account) {
+        Long userId = account.getUser().getId();
+        account.setDeletedAt(LocalDateTime.now());
+        accountRepository.save(account);
+        long seq = dataVersionTable.bump(userId);
+        tombstoneRepository.save(new SyncTombstone(userId, seq, SyncEntityType.ACCOUNT, account.getId()));
+        recurrenceRepository.deactivateByAccountId(account.getId());
+        purgeRepository.save(new AccountPurge(account.getId(), userId));
+        events.publishEvent(new TransactionsChangedEvent(userId));
+    }
+
+    // versão em lote de requestPurge, sem carregar as contas
+    @Transactional
+    public int requestPurgeAll(List<Long> accountIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> userIds = accountRepository.findUserIdsByIds(accountIds);
+        purgeRepository.enqueueAll(accountIds, now);
+        dataVersionTable.bumpAccounts(accountIds);
+        tombstoneRepository.insertForAccounts(accountIds, now);
+        int deleted = accountRepository.softDeleteByIds(accountIds, now);
+        recurrenceRepository.deactivateByAccountIds(accountIds);
+        userIds.forEach(userId -> events.publishEvent(new TransactionsChangedEvent(userId)));
+        return deleted;
+    }
+
+    public List<AccountPurgeResponseDTO> getPendingPurges() {
+        return purgeRepository.findByStatusNotOrderById(PurgeStatus.DONE)
+                .stream().map(AccountPurgeResponseDTO::toDTO).toList();
+    }
+
+    @Scheduled(fixedDelayString = "${finance.purge.interval-ms:10000}")
+    public void run() {
+        long[] claimed;
+        while ((claimed = claim()) != null) {
+            purge(claimed[0], claimed[1]);
+        }
+    }
+
+    // marca um purge como RUNNING numa transação curta; null se não houver trabalho
+    private long[] claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            Timestamp staleBefore = Timestamp.valueOf(now.minus(Duration.ofMillis(staleMs)));
+            List<long[]> rows = jdbcTemplate.query(CLAIM_SQL,
+                    (rs, i) -> new long[] { rs.getLong(1), rs.getLong(2) }, staleBefore);
+            if (rows.isEmpty()) {
+                return null;
+            }
+            long[] row = rows.get(0);
+            jdbcTemplate.update(PROGRESS_SQL, PurgeStatus.RUNNING.name(), 0, Timestamp.valueOf(now), row[0]);
+            return row;
+        });
+    }
+
+    private void purge(long purgeId, long accountId) {
+        long total = 0;
+        int deleted;
+        do {
+            // cada lote commita sozinho: locks e undo log ficam limitados ao lote
+            deleted = transactionTemplate.execute(status -> {
+                int n = jdbcTemplate.update(DELETE_CHUNK_SQL, accountId, chunkSize);
+                jdbcTemplate.update(PROGRESS_SQL, PurgeStatus.RUNNING.name(), n,
+                        Timestamp.valueOf(LocalDateTime.now()), purgeId);
+                return n;
+            });
+            total += deleted;
+            if (deleted == chunkSize && !throttle()) {
+                logger.warn("Purge da conta {} interrompido após {} transações", accountId, total);
+                return;
+            }
+        } while (deleted == chunkSize);
+
+        Timestamp finishedAt = Timestamp.valueOf(LocalDateTime.now());
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM holdings WHERE account_id = ?", accountId);
+            jdbcTemplate.update("DELETE FROM credit_statements WHERE account_id = ?", accountId);
+            jdbcTemplate.update("DELETE FROM recurrence_events WHERE account_id = ?", accountId);
+            jdbcTemplate.update("DELETE FROM accounts WHERE id = ?", accountId);
+            jdbcTemplate.update("UPDATE account_purges SET status = ?, updated_at = ?, finished_at = ? WHERE id = ?",
+                    PurgeStatus.DONE.name(), finishedAt, finishedAt, purgeId);
+        });
+        logger.info("Conta {} removida ({} transações)", accountId, total);
+    }
+
+    private boolean throttle() {
+        if (throttleMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(throttleMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package finance.services;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import finance.domain.metrics.MetricsState;
+
+/**
+ * Mantém as tabelas de métricas lidas pelos endpoints administrativos.
+ *
+ * metrics_daily_transactions é incremental: a cada execução só as transações
+ * com id acima da marca d'água são agregadas e somadas às linhas existentes,
+ * em faixas de chunk-size ids. Como edições e exclusões não mudam o id, a
+ * reconstrução diária recalcula os últimos rebuild-days dias a partir das
+ * transações já cobertas pela marca. O volume fica separado pela moeda da
+ * conta, sem conversão: a linha somada uma vez não seria refeita quando a
+ * cotação mudasse, e uma moeda sem cotação perderia o volume para sempre.
+ * Contas por tipo e total de usuários
+ * são pequenos e recalculados por inteiro (saldos convertidos pela fx_rates). O lock na linha de metrics_state
+ * serializa as execuções entre nós.
+ *
+ * A marca só avança até o MAX(id) observado há pelo menos watermark-lag-ms:
+ * o AUTO_INCREMENT é reservado no INSERT, e uma transação ainda aberta com id
+ * menor que o de outra já confirmada seria pulada até a reconstrução.
+ * Contas em moeda sem cotação ficam fora do saldo total (como no dashboard,
+ * que recusa somar sem cotação) e são reportadas em metrics_state.
+ */
+@Component
+public class AdminMetricsJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminMetricsJob.class);
+
+    private static final String LOCK_SQL = "SELECT last_transaction_id FROM metrics_state WHERE id = ? FOR UPDATE";
+
+    private static final String INCREMENT_SQL = """
+            INSERT INTO metrics_daily_transactions (day, category_id, type, currency, tx_count, total_amount)
+            SELECT * FROM (
+                SELECT DATE(t.created) AS d, COALESCE(t.category_id, 0) AS c, t.type AS k, a.currency AS m,
+                       COUNT(*) AS n, SUM(t.amount) AS s
+                FROM transactions t
+                JOIN accounts a ON a.id = t.account_id
+                WHERE t.id > ? AND t.id <= ?
+                GROUP BY DATE(t.created), COALESCE(t.category_id, 0), t.type, a.currency
+            ) AS agg
+            ON DUPLICATE KEY UPDATE tx_count = tx_count + agg.n, total_amount = total_amount + agg.s
+            """;
+
+    private static final String REBUILD_SQL = """
+            INSERT INTO metrics_daily_transactions (day, category_id, type, currency, tx_count, total_amount)
+            SELECT DATE(t.created), COALESCE(t.category_id, 0), t.type, a.currency, COUNT(*), SUM(t.amount)
+            FROM transactions t
+            JOIN accounts a ON a.id = t.account_id
+            WHERE t.created >= ? AND t.id <= ?
+            GROUP BY DATE(t.created), COALESCE(t.category_id, 0), t.type, a.currency
+            """;
+
+    // sem cotação o produto é NULL e o SUM ignora a conta; a contagem continua completa
+    private static final String ACCOUNT_TYPES_SQL = """
+            INSERT INTO metrics_account_types (type, account_count, total_balance)
+            SELECT a.type, COUNT(*), COALESCE(SUM(a.balance * CASE WHEN a.currency = ? THEN 1 ELSE f.rate END), 0)
+            FROM accounts a
+            LEFT JOIN fx_rates f ON f.currency = a.currency
+            WHERE a.deleted_at IS NULL AND a.type IS NOT NULL
+            GROUP BY a.type
+            """;
+
+    private static final String UNPRICED_SQL = """
+            SELECT COUNT(*) AS n, GROUP_CONCAT(DISTINCT a.currency ORDER BY a.currency) AS currencies
+            FROM accounts a
+            LEFT JOIN fx_rates f ON f.currency = a.currency
+            WHERE a.deleted_at IS NULL AND a.type IS NOT NULL AND a.currency <> ? AND f.rate IS NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final FxRateTable fxRateTable;
+    private final long chunkSize;
+    private final int rebuildDays;
+    private final long watermarkLagMs;
+    // MAX(id) da execução anterior; vira o limite da agregação quando fica velho o bastante
+    private Observation pending;
+
+    public AdminMetricsJob(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            FxRateTable fxRateTable,
+            @Value("${finance.metrics.chunk-size:50000}") long chunkSize,
+            @Value("${finance.metrics.rebuild-days:35}") int rebuildDays,
+            @Value("${finance.metrics.watermark-lag-ms:60000}") long watermarkLagMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.fxRateTable = fxRateTable;
+        this.chunkSize = chunkSize;
+        this.rebuildDays = rebuildDays;
+        this.watermarkLagMs = watermarkLagMs;
+    }
+
+    @Scheduled(initialDelayString = "${finance.metrics.initial-delay-ms:30000}",
+            fixedDelayString = "${finance.metrics.interval-ms:300000}")
+    public synchronized void refresh() {
+        ensureState();
+        long upper = settledUpperBound();
+
+        boolean more = true;
+        while (more) {
+            more = transactionTemplate.execute(status -> {
+                long watermark = lock();
+                if (watermark >= upper) {
+                    return false;
+                }
+                long to = Math.min(watermark + chunkSize, upper);
+                jdbcTemplate.update(INCREMENT_SQL, watermark, to);
+                jdbcTemplate.update("UPDATE metrics_state SET last_transaction_id = ? WHERE id = ?",
+                        to, MetricsState.SINGLETON_ID);
+                return to < upper;
+            });
+        }
+
+        Map<String, Object> unpriced = transactionTemplate.execute(status -> {
+            lock();
+            jdbcTemplate.update("DELETE FROM metrics_account_types");
+            jdbcTemplate.update(ACCOUNT_TYPES_SQL, fxRateTable.baseCurrency());
+            Map<String, Object> missing = jdbcTemplate.queryForMap(UNPRICED_SQL, fxRateTable.baseCurrency());
+            jdbcTemplate.update("""
+                    UPDATE metrics_state SET users_count = (SELECT COUNT(*) FROM users),
+                        unpriced_accounts = ?, unpriced_currencies = ?, refreshed_at = ?
+                    WHERE id = ?
+                    """, missing.get("n"), missing.get("currencies"), Timestamp.valueOf(LocalDateTime.now()),
+                    MetricsState.SINGLETON_ID);
+            return missing;
+        });
+        if (((Number) unpriced.get("n")).longValue() > 0) {
+            logger.warn("{} contas sem cotação fora do saldo total: {}", unpriced.get("n"),
+                    unpriced.get("currencies"));
+        }
+    }
+
+    /**
+     * Limite seguro para a agregação incremental: o MAX(id) observado há pelo
+     * menos watermark-lag-ms. Na primeira execução só registra a observação.
+     */
+    private long settledUpperBound() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM transactions", Long.class);
+        long now = System.currentTimeMillis();
+        Observation observed = new Observation(maxId != null ? maxId : 0, now);
+        Observation ready = pending;
+        if (ready == null) {
+            pending = observed;
+            return 0;
+        }
+        if (ready.observedAt() + watermarkLagMs > now) {
+            return 0;
+        }
+        pending = observed;
+        return ready.maxId();
+    }
+
+    // corrige os dias recentes afetados por edições e exclusões
+    @Scheduled(cron = "${finance.metrics.rebuild-cron:0 30 4 * * *}")
+    public void rebuildRecent() {
+        ensureState();
+        LocalDate since = LocalDate.now().minusDays(rebuildDays);
+        transactionTemplate.executeWithoutResult(status -> {
+            long watermark = lock();
+            jdbcTemplate.update("DELETE FROM metrics_daily_transactions WHERE day >= ?", since);
+            jdbcTemplate.update(REBUILD_SQL, Timestamp.valueOf(since.atStartOfDay()), watermark);
+        });
+        logger.info("Métricas diárias recalculadas desde {}", since);
+    }
+
+    private long lock() {
+        Long watermark = jdbcTemplate.queryForObject(LOCK_SQL, Long.class, MetricsState.SINGLETON_ID);
+        return watermark != null ? watermark : 0;
+    }
+
+    private void ensureState() {
+        jdbcTemplate.update("""
+                INSERT IGNORE INTO metrics_state (id, users_count, last_transaction_id) VALUES (?, 0, 0)
+                """, MetricsState.SINGLETON_ID);
+    }
+
+    private record Observation(long maxId, long observedAt) {
+    }
+}
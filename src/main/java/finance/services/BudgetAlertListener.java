@@ -0,0 +1,28 @@
+package finance.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import finance.domain.budgets.BudgetThresholdEvent;
+
+// só recebe o evento depois do commit da transação que causou o gasto
+@Component
+public class BudgetAlertListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(BudgetAlertListener.class);
+
+    @TransactionalEventListener
+    public void onThresholdCrossed(BudgetThresholdEvent event) {
+        if (event.limitExceeded()) {
+            logger.warn("Orçamento {} do usuário {} estourado: {} de {} em {} ({}/{})",
+                    event.budgetId(), event.userId(), event.consumedAmount(), event.limitAmount(),
+                    event.category(), event.month(), event.year());
+        } else {
+            logger.info("Orçamento {} do usuário {} atingiu o alerta: {} de {} em {} ({}/{})",
+                    event.budgetId(), event.userId(), event.consumedAmount(), event.limitAmount(),
+                    event.category(), event.month(), event.year());
+        }
+    }
+}
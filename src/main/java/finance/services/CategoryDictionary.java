@@ -0,0 +1,156 @@
+package finance.services;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import finance.domain.categories.Category;
+import finance.domain.categories.CategoryEntry;
+import finance.domain.transactions.CategoryTransactions;
+import finance.repository.RepositoryCategory;
+
+/**
+ * Dicionário em memória das categorias (id <-> nome). As categorias padrão
+ * do sistema são carregadas uma vez e compartilhadas; as de cada usuário são
+ * carregadas no primeiro acesso e descartadas quando ele altera alguma. Assim
+ * listagens e agregações de transações nunca fazem join com categories.
+ *
+ * O descarte acontece depois do commit, para que uma leitura concorrente não
+ * recarregue o estado anterior. Outros nós não recebem o descarte: um id
+ * desconhecido recarrega o usuário do banco antes de ser dado como inexistente
+ * (categoria recém-criada em outro nó), e renomes e exclusões feitos em outro
+ * nó aparecem em até ttl-ms.
+ */
+@Component
+public class CategoryDictionary {
+
+    private final RepositoryCategory categoryRepository;
+    private final int maxUsers;
+    private final long ttlMs;
+    private final Map<Long, Snapshot> byUser = new ConcurrentHashMap<>();
+    private volatile Snapshot system;
+
+    public CategoryDictionary(RepositoryCategory categoryRepository,
+            @Value("${finance.categories.max-cached-users:10000}") int maxUsers,
+            @Value("${finance.categories.ttl-ms:60000}") long ttlMs) {
+        this.categoryRepository = categoryRepository;
+        this.maxUsers = maxUsers;
+        this.ttlMs = ttlMs;
+    }
+
+    public CategoryEntry find(Long userId, Long categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        CategoryEntry entry = lookup(forUser(userId), categoryId);
+        if (entry == null) {
+            // pode ter sido criada em outro nó depois da carga
+            entry = lookup(load(userId), categoryId);
+        }
+        return entry;
+    }
+
+    public String nameOf(Long userId, Long categoryId) {
+        CategoryEntry entry = find(userId, categoryId);
+        return entry != null ? entry.name() : null;
+    }
+
+    // apenas categorias padrão; usado em agregações que misturam usuários
+    public String systemNameOf(Long categoryId) {
+        CategoryEntry entry = categoryId != null ? system().byId.get(categoryId) : null;
+        return entry != null ? entry.name() : null;
+    }
+
+    // categorias do usuário têm precedência sobre as padrão de mesmo nome
+    public CategoryEntry findByName(Long userId, String name) {
+        String key = key(name);
+        CategoryEntry entry = forUser(userId).byName.get(key);
+        return entry != null ? entry : system().byName.get(key);
+    }
+
+    public Long systemId(CategoryTransactions category) {
+        CategoryEntry entry = system().byName.get(key(category.name()));
+        return entry != null ? entry.id() : null;
+    }
+
+    public List<CategoryEntry> visibleTo(Long userId) {
+        List<CategoryEntry> entries = new ArrayList<>(system().byId.values());
+        entries.addAll(forUser(userId).byId.values());
+        return entries;
+    }
+
+    // dentro de uma transação, o descarte espera o commit
+    public void invalidate(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    byUser.remove(userId);
+                }
+            });
+        } else {
+            byUser.remove(userId);
+        }
+    }
+
+    public void invalidateSystem() {
+        system = null;
+    }
+
+    private Snapshot system() {
+        Snapshot snapshot = system;
+        if (snapshot == null) {
+            snapshot = Snapshot.of(categoryRepository.findByUserIsNull(), null);
+            system = snapshot;
+        }
+        return snapshot;
+    }
+
+    private CategoryEntry lookup(Snapshot user, Long categoryId) {
+        CategoryEntry entry = user.byId.get(categoryId);
+        return entry != null ? entry : system().byId.get(categoryId);
+    }
+
+    private Snapshot forUser(Long userId) {
+        Snapshot snapshot = byUser.get(userId);
+        if (snapshot == null || snapshot.loadedAt() + ttlMs <= System.currentTimeMillis()) {
+            snapshot = load(userId);
+        }
+        return snapshot;
+    }
+
+    private Snapshot load(Long userId) {
+        if (byUser.size() >= maxUsers) {
+            byUser.clear();
+        }
+        Snapshot snapshot = Snapshot.of(categoryRepository.findByUserId(userId), userId);
+        byUser.put(userId, snapshot);
+        return snapshot;
+    }
+
+    private static String key(String name) {
+        return name.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private record Snapshot(Map<Long, CategoryEntry> byId, Map<String, CategoryEntry> byName, long loadedAt) {
+
+        static Snapshot of(List<Category> categories, Long userId) {
+            Map<Long, CategoryEntry> byId = new HashMap<>();
+            Map<String, CategoryEntry> byName = new HashMap<>();
+            for (Category category : categories) {
+                CategoryEntry entry = CategoryEntry.of(category, userId);
+                byId.put(entry.id(), entry);
+                byName.put(key(entry.name()), entry);
+            }
+            return new Snapshot(Map.copyOf(byId), Map.copyOf(byName), System.currentTimeMillis());
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package finance.services;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import finance.config.ReplicaStickiness;
+import finance.repository.RepositoryUser;
+import jakarta.transaction.Transactional;
+
+/**
+ * Versão monotônica dos dados de cada usuário (contas, transações e
+ * categorias), usada como ETag forte das listagens. A fonte da verdade é
+ * users.data_version, incrementada na mesma transação da escrita; a leitura
+ * vem da memória e só consulta o banco na primeira vez ou depois de ttl-ms.
+ *
+ * A memória só avança sozinha no nó que fez a escrita: um nó que ainda tem a
+ * versão anterior em memória responde 304 para o ETag antigo por até ttl-ms
+ * depois de uma escrita feita em outra instância. Por isso o padrão é curto;
+ * com ttl-ms = 0 toda verificação relê a coluna (uma busca por chave primária).
+ */
+@Component
+public class DataVersionTable {
+
+    private final RepositoryUser userRepository;
+    private final ReplicaStickiness replicaStickiness;
+    private final long ttlMs;
+    private final Map<Long, Entry> versions = new ConcurrentHashMap<>();
+
+    public DataVersionTable(RepositoryUser userRepository, ReplicaStickiness replicaStickiness,
+            @Value("${finance.etag.version-ttl-ms:1000}") long ttlMs) {
+        this.userRepository = userRepository;
+        this.replicaStickiness = replicaStickiness;
+        this.ttlMs = ttlMs;
+    }
+
+    public long current(Long userId) {
+        long now = System.currentTimeMillis();
+        Entry entry = versions.get(userId);
+        if (entry != null && entry.expiresAt() > now) {
+            return entry.version();
+        }
+        long version = userRepository.findDataVersion(userId).orElse(0L);
+        versions.merge(userId, new Entry(version, now + ttlMs), DataVersionTable::newest);
+        return version;
+    }
+
+    // variant separa representações do mesmo recurso (JSON, CBOR, Smile)
+    public String etag(Long userId, String variant) {
+        return etag(userId, current(userId), variant);
+    }
+
+    public String etag(Long userId, long version, String variant) {
+        String suffix = "json".equals(variant) ? "" : "-" + variant;
+        return "\"" + userId + "-" + version + suffix + "\"";
+    }
+
+    /**
+     * Versão lida do banco pela transação corrente, sem passar pela memória.
+     * Chamada na transação read-only que lê o corpo, antes dele: os dois vêm
+     * da mesma conexão (réplica ou primário), então o ETag nunca é mais novo
+     * que o corpo. Uma réplica atrasada gera um ETag antigo, que deixa de
+     * casar assim que ela alcança o primário.
+     */
+    public <T> Versioned<T> read(Long userId, Supplier<T> body) {
+        long version = userRepository.findDataVersion(userId).orElse(0L);
+        return new Versioned<>(body.get(), version);
+    }
+
+    /**
+     * Incrementa a versão do usuário na transação corrente e devolve o novo valor,
+     * que também serve de sync_seq para as linhas escritas. A linha de users fica
+     * travada até o commit, então versões de um mesmo usuário confirmam em ordem.
+     * A memória só avança depois do commit, junto com a janela de leitura no primário.
+     */
+    @Transactional
+    public long bump(Long userId) {
+        userRepository.incrementDataVersion(userId);
+        long version = userRepository.findDataVersion(userId).orElse(0L);
+        afterCommit(() -> {
+            versions.merge(userId, new Entry(version, System.currentTimeMillis() + ttlMs), DataVersionTable::newest);
+            replicaStickiness.recordWrite(userId);
+        });
+        return version;
+    }
+
+    // escritas em lote por conta (admin, agendadores): os donos são recarregados do banco
+    @Transactional
+    public void bumpAccounts(Collection<Long> accountIds) {
+        if (accountIds.isEmpty()) {
+            return;
+        }
+        userRepository.incrementDataVersionByAccounts(accountIds);
+        afterCommit(() -> {
+            versions.clear();
+            replicaStickiness.recordWrite(null);
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static Entry newest(Entry a, Entry b) {
+        return a.version() > b.version() ? new Entry(a.version(), b.expiresAt()) : b;
+    }
+
+    private record Entry(long version, long expiresAt) {
+    }
+
+    /**
+     * @param body    dados lidos
+     * @param version data_version do usuário no momento da leitura
+     */
+    public record Versioned<T>(T body, long version) {
+    }
+}
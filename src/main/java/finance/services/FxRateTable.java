@@ -0,0 +1,184 @@
+package finance.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import finance.domain.fx.FxRate;
+import finance.domain.fx.FxSnapshot;
+import finance.domain.money.Money;
+import finance.exceptions.BusinessException;
+import finance.repository.RepositoryFxRate;
+import jakarta.transaction.Transactional;
+
+/**
+ * Tabela de câmbio em memória.
+ *
+ * As taxas ficam em fx_rates e chegam por um CSV local (finance.fx.rates-file,
+ * que na subida preenche as moedas ausentes) ou pelo upload administrativo. As conversões leem um
+ * FxSnapshot imutável; a recarga monta um snapshot novo e troca a referência
+ * de uma vez, então leitores nunca veem uma tabela pela metade. A recarga
+ * periódica propaga uploads feitos em outros nós.
+ */
+@Component
+public class FxRateTable implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(FxRateTable.class);
+
+    private final RepositoryFxRate rateRepository;
+    private final ResourceLoader resourceLoader;
+    private final String baseCurrency;
+    private final String ratesFile;
+    private volatile FxSnapshot snapshot;
+
+    public FxRateTable(RepositoryFxRate rateRepository, ResourceLoader resourceLoader,
+            @Value("${finance.fx.base-currency:BRL}") String baseCurrency,
+            @Value("${finance.fx.rates-file:}") String ratesFile) {
+        this.rateRepository = rateRepository;
+        this.resourceLoader = resourceLoader;
+        this.baseCurrency = normalize(baseCurrency);
+        this.ratesFile = ratesFile;
+        this.snapshot = new FxSnapshot(this.baseCurrency, Map.of(), LocalDateTime.now());
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (!ratesFile.isBlank()) {
+            Resource resource = resourceLoader.getResource(ratesFile);
+            if (resource.exists()) {
+                try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+                    int imported = importRates(parse(reader), false);
+                    logger.info("{} cotações importadas de {}", imported, ratesFile);
+                }
+            } else {
+                logger.warn("Arquivo de cotações {} não encontrado", ratesFile);
+            }
+        }
+        reload();
+    }
+
+    public FxSnapshot snapshot() {
+        return snapshot;
+    }
+
+    public String baseCurrency() {
+        return baseCurrency;
+    }
+
+    // converte para a moeda base; sem cotação é erro, para não somar moedas diferentes
+    public Money toBase(Money amount, String currency) {
+        Money converted = snapshot.convert(amount, currency, baseCurrency);
+        if (converted == null) {
+            throw new BusinessException("Cotação indisponível para a moeda " + currency);
+        }
+        return converted;
+    }
+
+    public String requireSupported(String currency) {
+        String code = normalize(currency);
+        if (!snapshot.supports(code)) {
+            throw new BusinessException("Moeda sem cotação cadastrada: " + code);
+        }
+        return code;
+    }
+
+    @Scheduled(initialDelayString = "${finance.fx.refresh-ms:300000}", fixedDelayString = "${finance.fx.refresh-ms:300000}")
+    public void reload() {
+        Map<String, Double> rates = new HashMap<>();
+        for (FxRate rate : rateRepository.findAll()) {
+            rates.put(rate.getCurrency(), rate.getRate().doubleValue());
+        }
+        rates.remove(baseCurrency);
+        snapshot = new FxSnapshot(baseCurrency, rates, LocalDateTime.now());
+    }
+
+    // upload administrativo: mesmo formato do arquivo local
+    @Transactional
+    public FxSnapshot upload(String csv) {
+        try {
+            importRates(parse(new StringReader(csv)), true);
+        } catch (IOException e) {
+            throw new BusinessException("Arquivo de cotações inválido", e);
+        }
+        reload();
+        return snapshot;
+    }
+
+    // o arquivo local só preenche moedas ausentes, para não desfazer um upload na próxima subida
+    @Transactional
+    public int importRates(Map<String, BigDecimal> rates, boolean overwrite) {
+        int imported = 0;
+        for (Map.Entry<String, BigDecimal> entry : rates.entrySet()) {
+            FxRate rate = rateRepository.findById(entry.getKey()).orElse(null);
+            if (rate == null) {
+                rate = new FxRate(entry.getKey(), entry.getValue());
+            } else if (overwrite) {
+                rate.setRate(entry.getValue());
+            } else {
+                continue;
+            }
+            rateRepository.save(rate);
+            imported++;
+        }
+        return imported;
+    }
+
+    // linhas "MOEDA,TAXA"; linhas vazias, comentários (#) e cabeçalho são ignorados
+    static Map<String, BigDecimal> parse(Reader source) throws IOException {
+        Map<String, BigDecimal> rates = new LinkedHashMap<>();
+        BufferedReader reader = new BufferedReader(source);
+        String line;
+        int number = 0;
+        while ((line = reader.readLine()) != null) {
+            number++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#") || line.toLowerCase(Locale.ROOT).startsWith("currency")) {
+                continue;
+            }
+            String[] parts = line.split("[,;]");
+            if (parts.length != 2) {
+                throw new BusinessException("Linha " + number + " inválida no arquivo de cotações");
+            }
+            BigDecimal rate;
+            try {
+                rate = new BigDecimal(parts[1].trim());
+            } catch (NumberFormatException e) {
+                throw new BusinessException("Taxa inválida na linha " + number);
+            }
+            if (rate.signum() <= 0) {
+                throw new BusinessException("Taxa deve ser positiva na linha " + number);
+            }
+            rates.put(normalize(parts[0]), rate);
+        }
+        return rates;
+    }
+
+    static String normalize(String currency) {
+        String code = currency == null ? "" : currency.trim().toUpperCase(Locale.ROOT);
+        try {
+            return Currency.getInstance(code).getCurrencyCode();
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Moeda inválida: " + currency);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package finance.services;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import finance.domain.dto.goals.GoalProjectionDTO;
+import finance.domain.goals.GoalChangedEvent;
+import finance.domain.transactions.TransactionsChangedEvent;
+
+/**
+ * Projeções por usuário/meta, válidas até chegarem novas transações do
+ * usuário ou por ttl-ms. A simulação roda fora do mapa: a primeira chamada
+ * publica um future e calcula; chamadas simultâneas da mesma chave esperam
+ * o mesmo future, sem travar chaves vizinhas.
+ */
+@Component
+public class GoalProjectionCache {
+
+    private final long ttlMs;
+    private final int maxEntries;
+    private final Map<Key, Entry> projections = new ConcurrentHashMap<>();
+
+    public GoalProjectionCache(@Value("${finance.goals.projection-ttl-ms:600000}") long ttlMs,
+            @Value("${finance.goals.projection-max-entries:10000}") int maxEntries) {
+        this.ttlMs = ttlMs;
+        this.maxEntries = maxEntries;
+    }
+
+    public GoalProjectionDTO get(Long userId, Long goalId, Supplier<GoalProjectionDTO> loader) {
+        Key key = new Key(userId, goalId);
+        long now = System.currentTimeMillis();
+        Entry current = projections.get(key);
+        if (current != null && current.expiresAt() > now) {
+            return ReadCoalescer.await(current.projection());
+        }
+
+        if (projections.size() >= maxEntries) {
+            projections.clear();
+        }
+        Entry flight = new Entry(new CompletableFuture<>(), now + ttlMs);
+        Entry winner = projections.compute(key, (k, e) -> e != null && e.expiresAt() > now ? e : flight);
+        if (winner != flight) {
+            return ReadCoalescer.await(winner.projection());
+        }
+
+        try {
+            GoalProjectionDTO projection = loader.get();
+            flight.projection().complete(projection);
+            return projection;
+        } catch (RuntimeException | Error e) {
+            // falhas não ficam em cache: a próxima chamada tenta de novo
+            projections.remove(key, flight);
+            flight.projection().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // só depois do commit: antes dele, uma projeção calculada agora ainda leria a meta antiga
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGoalChanged(GoalChangedEvent event) {
+        projections.remove(new Key(event.userId(), event.goalId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        projections.keySet().removeIf(key -> key.userId().equals(event.userId()));
+    }
+
+    private record Key(Long userId, Long goalId) {
+    }
+
+    private record Entry(CompletableFuture<GoalProjectionDTO> projection, long expiresAt) {
+    }
+}
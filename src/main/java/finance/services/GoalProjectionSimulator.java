@@ -0,0 +1,120 @@
+package finance.services;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Simulador Monte Carlo das metas. Cada caminho sorteia, com reposição, um
+ * saldo mensal líquido do histórico do usuário para cada mês até o prazo.
+ * Os caminhos são divididos em blocos num ForkJoinPool próprio; cada bloco
+ * recebe um SplittableRandom derivado via split(), então não há contenção
+ * no gerador nem objetos alocados por caminho.
+ */
+@Component
+public class GoalProjectionSimulator {
+
+    // caminhos por folha: grande o bastante para amortizar o fork
+    static final int LEAF_PATHS = 4096;
+
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    public Result simulate(double[] monthlyNet, int months, double start, double target, int paths, long seed) {
+        double[] finals = new double[paths];
+
+        if (months <= 0 || monthlyNet.length == 0) {
+            Arrays.fill(finals, start);
+            return Result.of(start >= target ? paths : 0, finals);
+        }
+
+        long hits = pool.invoke(new PathTask(monthlyNet, months, start, target, finals, 0, paths,
+                new SplittableRandom(seed)));
+        return Result.of(hits, finals);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    public record Result(double probability, double mean, double p10, double p50, double p90) {
+
+        static Result of(long hits, double[] finals) {
+            double sum = 0;
+            for (double value : finals) {
+                sum += value;
+            }
+            Arrays.sort(finals);
+            int n = finals.length;
+            return new Result(
+                    (double) hits / n,
+                    sum / n,
+                    finals[(int) (n * 0.10)],
+                    finals[n / 2],
+                    finals[Math.min(n - 1, (int) (n * 0.90))]);
+        }
+    }
+
+    private static final class PathTask extends RecursiveTask<Long> {
+
+        private final double[] monthlyNet;
+        private final int months;
+        private final double start;
+        private final double target;
+        private final double[] finals;
+        private final int from;
+        private final int to;
+        private final SplittableRandom random;
+
+        PathTask(double[] monthlyNet, int months, double start, double target, double[] finals,
+                int from, int to, SplittableRandom random) {
+            this.monthlyNet = monthlyNet;
+            this.months = months;
+            this.start = start;
+            this.target = target;
+            this.finals = finals;
+            this.from = from;
+            this.to = to;
+            this.random = random;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= LEAF_PATHS) {
+                return runPaths();
+            }
+            int mid = (from + to) >>> 1;
+            PathTask left = new PathTask(monthlyNet, months, start, target, finals, from, mid, random.split());
+            PathTask right = new PathTask(monthlyNet, months, start, target, finals, mid, to, random);
+            left.fork();
+            long rightHits = right.compute();
+            return left.join() + rightHits;
+        }
+
+        // a meta conta como atingida se o saldo chegar ao alvo em qualquer mês até o prazo
+        private long runPaths() {
+            int samples = monthlyNet.length;
+            long hits = 0;
+            for (int path = from; path < to; path++) {
+                double balance = start;
+                boolean reached = balance >= target;
+                for (int month = 0; month < months; month++) {
+                    balance += monthlyNet[random.nextInt(samples)];
+                    if (balance >= target) {
+                        reached = true;
+                    }
+                }
+                finals[path] = balance;
+                if (reached) {
+                    hits++;
+                }
+            }
+            return hits;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package finance.services;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import finance.domain.insights.InsightType;
+import finance.domain.transactions.CategoryTransactions;
+
+/**
+ * Acumula as despesas de um único usuário numa janela de meses (a última
+ * posição é o mês de referência) e aplica as regras de insight. Os valores
+ * são somados em centavos (long), e o estado é descartado a cada usuário,
+ * então a memória não cresce com o histórico.
+ */
+final class InsightAccumulator {
+
+    static final int WINDOW_MONTHS = 4;
+
+    private static final double SPIKE_RATIO = 1.5;
+    private static final long SPIKE_MIN_DIFF_CENTS = 5_000;
+    private static final int SUBSCRIPTION_MIN_MONTHS = 3;
+    private static final double FEE_RATIO = 1.5;
+
+    private final YearMonth firstMonth;
+    private final Map<String, long[]> monthlyByCategory = new HashMap<>();
+    private final Map<String, Subscription> subscriptions = new HashMap<>();
+
+    InsightAccumulator(YearMonth referenceMonth) {
+        this.firstMonth = referenceMonth.minusMonths(WINDOW_MONTHS - 1);
+    }
+
+    void reset() {
+        monthlyByCategory.clear();
+        subscriptions.clear();
+    }
+
+    // category é o nome da categoria (padrão do sistema ou do usuário)
+    void add(String category, String name, BigDecimal amount, YearMonth month) {
+        if (category == null) {
+            return;
+        }
+        int index = (int) ChronoUnit.MONTHS.between(firstMonth, month);
+        if (index < 0 || index >= WINDOW_MONTHS) {
+            return;
+        }
+        long cents = amount.setScale(2, RoundingMode.HALF_EVEN).unscaledValue().longValue();
+        monthlyByCategory.computeIfAbsent(category, c -> new long[WINDOW_MONTHS])[index] += cents;
+
+        if ((is(category, CategoryTransactions.STREAMING) || is(category, CategoryTransactions.SOFTWARES))
+                && name != null && !name.isBlank()) {
+            Subscription subscription = subscriptions.computeIfAbsent(
+                    name.trim().toLowerCase(Locale.ROOT), key -> new Subscription(name.trim()));
+            subscription.monthMask |= 1 << index;
+            subscription.totalCents += cents;
+            subscription.count++;
+        }
+    }
+
+    List<Finding> findings() {
+        List<Finding> findings = new ArrayList<>();
+        int last = WINDOW_MONTHS - 1;
+
+        monthlyByCategory.forEach((category, months) -> {
+            long current = months[last];
+            long previous = months[last - 1];
+
+            if (isFee(category)) {
+                long previousSum = 0;
+                for (int i = 0; i < last; i++) {
+                    previousSum += months[i];
+                }
+                double previousAverage = (double) previousSum / last;
+                if (current > 0 && current > previousAverage * FEE_RATIO) {
+                    findings.add(new Finding(InsightType.UNUSUAL_FEE,
+                            "Tarifas acima do normal em " + category,
+                            String.format("Você pagou %s em %s no último mês, contra uma média de %s nos meses anteriores.",
+                                    reais(current), category, reais(Math.round(previousAverage)))));
+                }
+            } else if (previous > 0 && current >= previous * SPIKE_RATIO
+                    && current - previous >= SPIKE_MIN_DIFF_CENTS) {
+                long percent = Math.round((current - previous) * 100.0 / previous);
+                findings.add(new Finding(InsightType.CATEGORY_SPIKE,
+                        "Gastos com " + category + " subiram " + percent + "%",
+                        String.format("Você gastou %s em %s no último mês, contra %s no mês anterior.",
+                                reais(current), category, reais(previous))));
+            }
+        });
+
+        subscriptions.values().forEach(subscription -> {
+            if (Integer.bitCount(subscription.monthMask) >= SUBSCRIPTION_MIN_MONTHS) {
+                findings.add(new Finding(InsightType.RECURRING_SUBSCRIPTION,
+                        "Assinatura recorrente: " + subscription.displayName,
+                        String.format("%s aparece em %d dos últimos %d meses, em média %s por cobrança.",
+                                subscription.displayName, Integer.bitCount(subscription.monthMask), WINDOW_MONTHS,
+                                reais(subscription.totalCents / subscription.count))));
+            }
+        });
+
+        return findings;
+    }
+
+    private static boolean isFee(String category) {
+        return is(category, CategoryTransactions.TARIFAS_BANCARIAS) || is(category, CategoryTransactions.JUROS_MULTAS);
+    }
+
+    private static boolean is(String category, CategoryTransactions system) {
+        return system.name().equalsIgnoreCase(category);
+    }
+
+    private static String reais(long cents) {
+        return String.format("R$ %.2f", cents / 100.0);
+    }
+
+    record Finding(InsightType kind, String title, String message) {
+    }
+
+    private static final class Subscription {
+        private final String displayName;
+        private int monthMask;
+        private long totalCents;
+        private int count;
+
+        Subscription(String displayName) {
+            this.displayName = displayName;
+        }
+    }
+}
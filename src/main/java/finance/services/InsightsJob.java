@@ -0,0 +1,311 @@
+package finance.services;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import finance.domain.insights.InsightJobRun;
+import finance.domain.insights.InsightJobStatus;
+import finance.exceptions.BusinessException;
+import finance.repository.RepositoryInsightJobRun;
+
+/**
+ * Job offline que gera os insights de todos os usuários.
+ *
+ * Os usuários são divididos em faixas de id; cada faixa lê as despesas da
+ * janela em streaming (ordenadas por usuário), avalia um usuário por vez e
+ * grava os achados num único batch. As faixas rodam em paralelo num pool
+ * limitado, com uma pausa entre faixas para não competir com o tráfego.
+ * O checkpoint guarda o maior id de usuário abaixo do qual todas as faixas
+ * terminaram; uma execução interrompida é retomada a partir dele.
+ *
+ * Há uma única execução por mês de referência: rodar de novo no mesmo mês
+ * recomeça a mesma linha e substitui os achados dela. Entre nós, a execução
+ * é reivindicada por um lease em insight_job_runs, renovado a cada faixa
+ * concluída; quem não consegue o lease não roda.
+ */
+@Component
+public class InsightsJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(InsightsJob.class);
+
+    private static final String STREAM_SQL = """
+            SELECT a.user_id, c.name, t.name, t.amount, t.created
+            FROM transactions t
+            JOIN accounts a ON a.id = t.account_id
+            LEFT JOIN categories c ON c.id = t.category_id
+            WHERE a.user_id > ? AND a.user_id <= ?
+              AND t.type = 'EXPENSE'
+              AND t.created >= ? AND t.created < ?
+            ORDER BY a.user_id
+            """;
+
+    private static final String DELETE_SQL = "DELETE FROM insights WHERE run_id = ? AND user_id > ? AND user_id <= ?";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO insights (user_id, kind, title, message, run_id, created_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    // a linha nasce concluída para que o CLAIM_SQL a inicie como qualquer reexecução
+    private static final String CREATE_RUN_SQL = """
+            INSERT IGNORE INTO insight_job_runs (reference_month, last_user_id, status, started_at)
+            VALUES (?, 0, 'COMPLETED', NOW())
+            """;
+
+    // uma execução concluída recomeça do zero; uma interrompida continua do checkpoint
+    private static final String CLAIM_SQL = """
+            UPDATE insight_job_runs SET
+                last_user_id = IF(status = 'COMPLETED', 0, last_user_id),
+                started_at = IF(status = 'COMPLETED', NOW(), started_at),
+                status = 'RUNNING',
+                finished_at = NULL,
+                owner = ?,
+                lease_until = TIMESTAMPADD(SECOND, ?, NOW())
+            WHERE reference_month = ?
+              AND (status = 'COMPLETED' OR lease_until IS NULL OR lease_until < NOW() OR owner = ?)
+            """;
+
+    private static final String RENEW_SQL = """
+            UPDATE insight_job_runs SET last_user_id = ?, lease_until = TIMESTAMPADD(SECOND, ?, NOW())
+            WHERE id = ? AND owner = ?
+            """;
+
+    private static final String COMPLETE_SQL = """
+            UPDATE insight_job_runs SET status = 'COMPLETED', finished_at = NOW(), owner = NULL, lease_until = NULL
+            WHERE id = ? AND owner = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RepositoryInsightJobRun runRepository;
+    private final TaskExecutor jobExecutor;
+    private final int partitionSize;
+    private final int parallelism;
+    private final long throttleMs;
+    private final long leaseSeconds;
+    // identifica este nó como dono do lease
+    private final String owner = UUID.randomUUID().toString();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public InsightsJob(JdbcTemplate jdbcTemplate, DataSource dataSource, PlatformTransactionManager transactionManager,
+            RepositoryInsightJobRun runRepository, @Qualifier("insightsJobExecutor") TaskExecutor jobExecutor,
+            @Value("${finance.insights.partition-size:500}") int partitionSize,
+            @Value("${finance.insights.parallelism:0}") int parallelism,
+            @Value("${finance.insights.throttle-ms:200}") long throttleMs,
+            @Value("${finance.insights.lease-ms:600000}") long leaseMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Connector/J só faz streaming linha a linha com fetch size Integer.MIN_VALUE
+        this.streamingTemplate = new JdbcTemplate(dataSource);
+        this.streamingTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.runRepository = runRepository;
+        this.jobExecutor = jobExecutor;
+        this.partitionSize = partitionSize;
+        this.parallelism = parallelism > 0 ? parallelism
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.throttleMs = throttleMs;
+        this.leaseSeconds = Math.max(1, leaseMs / 1000);
+    }
+
+    @Scheduled(cron = "${finance.insights.cron:0 0 3 * * *}")
+    public void scheduledRun() {
+        try {
+            run();
+        } catch (BusinessException e) {
+            logger.info(e.getMessage());
+        }
+    }
+
+    public void run() {
+        acquire();
+        try {
+            execute();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // dispara o job no executor dedicado; usado pelo endpoint administrativo
+    public void startAsync() {
+        acquire();
+        try {
+            jobExecutor.execute(() -> {
+                try {
+                    execute();
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            running.set(false);
+            throw new BusinessException("O job de insights já está em execução");
+        }
+    }
+
+    private void acquire() {
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessException("O job de insights já está em execução");
+        }
+    }
+
+    private void execute() {
+        // uma execução interrompida (mesmo de um mês anterior) é retomada antes de começar outra
+        LocalDate referenceMonth = runRepository.findFirstByStatusOrderByIdDesc(InsightJobStatus.RUNNING)
+                .map(InsightJobRun::getReferenceMonth)
+                .orElseGet(() -> YearMonth.now().minusMonths(1).atDay(1));
+
+        jdbcTemplate.update(CREATE_RUN_SQL, referenceMonth);
+        if (jdbcTemplate.update(CLAIM_SQL, owner, leaseSeconds, referenceMonth, owner) == 0) {
+            logger.info("Job de insights de {} em execução em outro nó", referenceMonth);
+            return;
+        }
+        InsightJobRun run = runRepository.findByReferenceMonth(referenceMonth).orElseThrow();
+
+        Long maxUserId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM users", Long.class);
+        long upper = maxUserId != null ? maxUserId : 0;
+        long start = run.getLastUserId();
+        logger.info("Job de insights {} iniciando a partir do usuário {} (até {})", run.getId(), start, upper);
+
+        Checkpoint checkpoint = new Checkpoint(run, start);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<?>> partitions = new ArrayList<>();
+            for (long from = start; from < upper; from += partitionSize) {
+                long lo = from;
+                long hi = Math.min(from + partitionSize, upper);
+                partitions.add(executor.submit(() -> {
+                    processPartition(run, lo, hi);
+                    checkpoint.done(lo, hi);
+                    throttle();
+                }));
+            }
+            for (Future<?> partition : partitions) {
+                partition.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Job de insights {} interrompido no usuário {}", run.getId(), checkpoint.watermark());
+            return;
+        } catch (Exception e) {
+            logger.error("Job de insights {} falhou; será retomado do usuário {}", run.getId(),
+                    checkpoint.watermark(), e);
+            return;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (jdbcTemplate.update(COMPLETE_SQL, run.getId(), owner) == 0) {
+            logger.warn("Job de insights {} perdeu o lease antes de concluir", run.getId());
+            return;
+        }
+        logger.info("Job de insights {} concluído", run.getId());
+    }
+
+    // processa a faixa (lo, hi] de ids de usuário numa única transação
+    private void processPartition(InsightJobRun run, long lo, long hi) {
+        YearMonth reference = YearMonth.from(run.getReferenceMonth());
+        LocalDateTime windowStart = reference.minusMonths(InsightAccumulator.WINDOW_MONTHS - 1).atDay(1).atStartOfDay();
+        LocalDateTime windowEnd = reference.plusMonths(1).atDay(1).atStartOfDay();
+        LocalDateTime now = LocalDateTime.now();
+
+        InsightAccumulator accumulator = new InsightAccumulator(reference);
+        List<Object[]> rows = new ArrayList<>();
+        long[] currentUser = { -1 };
+
+        streamingTemplate.query(STREAM_SQL, rs -> {
+            long userId = rs.getLong(1);
+            if (userId != currentUser[0]) {
+                flush(accumulator, currentUser[0], run.getId(), now, rows);
+                accumulator.reset();
+                currentUser[0] = userId;
+            }
+            accumulator.add(
+                    rs.getString(2),
+                    rs.getString(3),
+                    rs.getBigDecimal(4),
+                    YearMonth.from(rs.getTimestamp(5).toLocalDateTime()));
+        }, lo, hi, Timestamp.valueOf(windowStart), Timestamp.valueOf(windowEnd));
+        flush(accumulator, currentUser[0], run.getId(), now, rows);
+
+        // apaga o que uma tentativa anterior desta faixa possa ter gravado
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_SQL, run.getId(), lo, hi);
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        });
+    }
+
+    private static void flush(InsightAccumulator accumulator, long userId, Long runId, LocalDateTime now,
+            List<Object[]> rows) {
+        if (userId < 0) {
+            return;
+        }
+        Timestamp createdAt = Timestamp.valueOf(now);
+        for (InsightAccumulator.Finding finding : accumulator.findings()) {
+            rows.add(new Object[] { userId, finding.kind().name(), finding.title(), finding.message(), runId,
+                    createdAt });
+        }
+    }
+
+    private void throttle() {
+        if (throttleMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(throttleMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // avança o checkpoint só sobre faixas contíguas concluídas e renova o lease a cada faixa
+    private final class Checkpoint {
+
+        private final InsightJobRun run;
+        private final TreeMap<Long, Long> finished = new TreeMap<>();
+        private long watermark;
+
+        Checkpoint(InsightJobRun run, long watermark) {
+            this.run = run;
+            this.watermark = watermark;
+        }
+
+        synchronized void done(long lo, long hi) {
+            finished.put(lo, hi);
+            while (finished.containsKey(watermark)) {
+                watermark = finished.remove(watermark);
+            }
+            if (jdbcTemplate.update(RENEW_SQL, watermark, leaseSeconds, run.getId(), owner) == 0) {
+                throw new IllegalStateException("Lease do job de insights " + run.getId() + " perdido");
+            }
+        }
+
+        synchronized long watermark() {
+            return watermark;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package finance.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import finance.domain.investments.PriceSeries;
+import finance.exceptions.BusinessException;
+
+/**
+ * Carrega as séries de preço dos CSVs locais em finance.prices.dir.
+ *
+ * Cada arquivo tem linhas "ATIVO,AAAA-MM-DD,FECHAMENTO" (cabeçalho e
+ * comentários são ignorados; um ativo pode estar espalhado em vários
+ * arquivos). A carga monta um PriceSeries novo e troca a referência de uma
+ * vez; as avaliações em andamento continuam no snapshot antigo.
+ */
+@Component
+public class PriceSeriesStore implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(PriceSeriesStore.class);
+
+    private final String directory;
+    private volatile PriceSeries series = PriceSeries.EMPTY;
+
+    public PriceSeriesStore(@Value("${finance.prices.dir:}") String directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        reload();
+    }
+
+    public PriceSeries series() {
+        return series;
+    }
+
+    @Scheduled(initialDelayString = "${finance.prices.refresh-ms:3600000}", fixedDelayString = "${finance.prices.refresh-ms:3600000}")
+    public void reload() {
+        if (directory.isBlank()) {
+            return;
+        }
+        Path dir = Paths.get(directory);
+        if (!Files.isDirectory(dir)) {
+            logger.warn("Diretório de preços {} não encontrado", dir);
+            return;
+        }
+        Map<String, TreeMap<Integer, Double>> raw = new HashMap<>();
+        int files = 0;
+        try (DirectoryStream<Path> csvs = Files.newDirectoryStream(dir, "*.csv")) {
+            for (Path csv : csvs) {
+                read(csv, raw);
+                files++;
+            }
+        } catch (IOException e) {
+            throw new BusinessException("Falha ao ler as séries de preço", e);
+        }
+        series = compact(raw);
+        logger.info("Séries de preço carregadas: {} ativos de {} arquivos", series.instruments(), files);
+    }
+
+    private static void read(Path csv, Map<String, TreeMap<Integer, Double>> raw) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8)) {
+            String line;
+            int number = 0;
+            while ((line = reader.readLine()) != null) {
+                number++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split("[,;]");
+                if (parts.length != 3) {
+                    throw new BusinessException(csv.getFileName() + ": linha " + number + " inválida");
+                }
+                LocalDate day;
+                double close;
+                try {
+                    day = LocalDate.parse(parts[1].trim());
+                    close = Double.parseDouble(parts[2].trim());
+                } catch (DateTimeParseException | NumberFormatException e) {
+                    if (number == 1) {
+                        continue; // cabeçalho
+                    }
+                    throw new BusinessException(csv.getFileName() + ": linha " + number + " inválida");
+                }
+                raw.computeIfAbsent(normalize(parts[0]), k -> new TreeMap<>()).put((int) day.toEpochDay(), close);
+            }
+        }
+    }
+
+    // um double por dia corrido, com o último fechamento repetido nos dias sem pregão
+    static PriceSeries compact(Map<String, TreeMap<Integer, Double>> raw) {
+        Map<String, Integer> index = new HashMap<>();
+        int[] firstDay = new int[raw.size()];
+        double[][] closes = new double[raw.size()][];
+        int i = 0;
+        for (Map.Entry<String, TreeMap<Integer, Double>> entry : raw.entrySet()) {
+            TreeMap<Integer, Double> days = entry.getValue();
+            int first = days.firstKey();
+            double[] dense = new double[days.lastKey() - first + 1];
+            int filled = 0;
+            double last = Double.NaN;
+            for (Map.Entry<Integer, Double> day : days.entrySet()) {
+                int offset = day.getKey() - first;
+                while (filled < offset) {
+                    dense[filled++] = last;
+                }
+                last = day.getValue();
+                dense[filled++] = last;
+            }
+            index.put(entry.getKey(), i);
+            firstDay[i] = first;
+            closes[i] = dense;
+            i++;
+        }
+        return new PriceSeries(index, firstDay, closes, LocalDateTime.now());
+    }
+
+    public static String normalize(String instrument) {
+        return instrument.trim().toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,97 @@
+package finance.services;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Single-flight para leituras idênticas e simultâneas do mesmo usuário
+ * (várias abas ou aparelhos abrindo ao mesmo tempo). A primeira chamada de
+ * uma chave executa a consulta; as que chegam enquanto ela roda esperam e
+ * recebem o mesmo resultado. Nada é guardado depois que a execução termina.
+ *
+ * A chave inclui a data_version do usuário: uma escrita confirmada avança a
+ * versão, então leituras posteriores nunca se juntam a uma execução iniciada
+ * antes dela.
+ */
+@Component
+public class ReadCoalescer {
+
+    private final DataVersionTable dataVersionTable;
+    private final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+
+    public ReadCoalescer(DataVersionTable dataVersionTable, MeterRegistry registry) {
+        this.dataVersionTable = dataVersionTable;
+        this.executed = Counter.builder("finance.reads.executed")
+                .description("Leituras que executaram a consulta")
+                .register(registry);
+        this.coalesced = Counter.builder("finance.reads.coalesced")
+                .description("Leituras atendidas por uma execução já em andamento")
+                .register(registry);
+        Gauge.builder("finance.reads.coalesced.ratio", this, ReadCoalescer::coalescedRatio)
+                .description("Fração das leituras que não precisaram consultar o banco")
+                .register(registry);
+        Gauge.builder("finance.reads.in-flight", inFlight, Map::size)
+                .register(registry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Long userId, String operation, Supplier<T> loader, Object... params) {
+        Key key = new Key(userId, operation, List.of(params), dataVersionTable.current(userId));
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return (T) await(existing);
+        }
+
+        executed.increment();
+        try {
+            T result = loader.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    public double coalescedRatio() {
+        double total = executed.count() + coalesced.count();
+        return total == 0 ? 0 : coalesced.count() / total;
+    }
+
+    // propaga a exceção original do líder (ex.: AccountNotFoundException) para o handler global
+    static <T> T await(CompletableFuture<T> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private record Key(Long userId, String operation, List<Object> params, long version) {
+    }
+}
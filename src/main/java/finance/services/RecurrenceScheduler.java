@@ -0,0 +1,64 @@
+package finance.services;
+
+import java.time.LocalDate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import finance.services.ServiceInstallments.SettlementBatch;
+
+// dispara o motor de recorrências e a liquidação de parcelas; cada lote roda em sua própria transação
+@Component
+public class RecurrenceScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecurrenceScheduler.class);
+
+    private final ServiceRecurrence serviceRecurrence;
+    private final ServiceInstallments serviceInstallments;
+    private final int batchSize;
+
+    public RecurrenceScheduler(ServiceRecurrence serviceRecurrence, ServiceInstallments serviceInstallments,
+            @Value("${finance.recurrence.batch-size:200}") int batchSize) {
+        this.serviceRecurrence = serviceRecurrence;
+        this.serviceInstallments = serviceInstallments;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${finance.recurrence.interval-ms:60000}")
+    public void run() {
+        LocalDate today = LocalDate.now();
+        int total = 0;
+        int processed;
+        do {
+            processed = serviceRecurrence.processDueBatch(today, batchSize);
+            total += processed;
+        } while (processed > 0);
+
+        if (total > 0) {
+            logger.info("Recorrências processadas: {}", total);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${finance.recurrence.interval-ms:60000}")
+    public void settleInstallments() {
+        LocalDate today = LocalDate.now();
+        int total = 0;
+        int open = 0;
+        SettlementBatch batch = new SettlementBatch(0, 0, 0);
+        do {
+            batch = serviceInstallments.settleDueBatch(today, batch.lastId(), batchSize);
+            total += batch.settled();
+            open += batch.claimed() - batch.settled();
+        } while (batch.claimed() > 0);
+
+        if (total > 0) {
+            logger.info("Parcelas liquidadas: {}", total);
+        }
+        if (open > 0) {
+            logger.warn("Parcelas vencidas sem saldo ou limite, mantidas em aberto: {}", open);
+        }
+    }
+}
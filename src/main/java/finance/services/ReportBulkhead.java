@@ -0,0 +1,146 @@
+package finance.services;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import finance.exceptions.BusinessException;
+import finance.exceptions.ReportUnavailableException;
+
+/**
+ * Isola as leituras longas (exportações, agregados) do CRUD: executor próprio
+ * (reportsExecutor), pool de conexões pequeno e separado do Hikari principal,
+ * e timeout de consulta no JDBC. As respostas saem por DeferredResult, então
+ * a thread do Tomcat volta ao pool enquanto o relatório roda.
+ *
+ * Relatórios acima de max-rows falham com 400 em vez de sair truncados: o
+ * JDBC busca uma linha a mais só para detectar o excesso (requireWithinLimit).
+ *
+ * O pool não é exposto como DataSource bean para não disputar a
+ * autoconfiguração do DataSource principal.
+ */
+@Component
+public class ReportBulkhead implements DisposableBean {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final long timeoutMs;
+    private final int maxRows;
+    // statement em execução na tarefa corrente, para o cancelamento no tempo limite
+    private final ThreadLocal<AtomicReference<Statement>> running = new ThreadLocal<>();
+
+    public ReportBulkhead(@Qualifier("reportsExecutor") ThreadPoolTaskExecutor executor,
+            DataSourceProperties primary,
+            @Value("${finance.reports.datasource.url:}") String url,
+            @Value("${finance.reports.datasource.pool-size:3}") int poolSize,
+            @Value("${finance.reports.timeout-ms:30000}") long timeoutMs,
+            @Value("${finance.reports.max-rows:100000}") int maxRows) {
+        this.executor = executor;
+        this.timeoutMs = timeoutMs;
+        this.maxRows = maxRows;
+
+        this.dataSource = new HikariDataSource();
+        dataSource.setPoolName("reports");
+        dataSource.setJdbcUrl(url.isBlank() ? primary.determineUrl() : url);
+        dataSource.setUsername(primary.determineUsername());
+        dataSource.setPassword(primary.determinePassword());
+        dataSource.setDriverClassName(primary.determineDriverClassName());
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setMinimumIdle(0);
+        dataSource.setReadOnly(true);
+        // sem conexão livre o relatório falha rápido, não espera o timeout padrão de 30s
+        dataSource.setConnectionTimeout(2000);
+        dataSource.setInitializationFailTimeout(-1);
+
+        this.jdbcTemplate = new JdbcTemplate(dataSource) {
+            @Override
+            protected void applyStatementSettings(Statement stmt) throws SQLException {
+                super.applyStatementSettings(stmt);
+                AtomicReference<Statement> slot = running.get();
+                if (slot != null) {
+                    slot.set(stmt);
+                }
+            }
+        };
+        // o banco cancela a consulta pouco depois de a requisição desistir dela
+        jdbcTemplate.setQueryTimeout((int) Math.max(1, (timeoutMs + 999) / 1000));
+        // uma linha além do limite: só para requireWithinLimit distinguir "cabe" de "truncado"
+        jdbcTemplate.setMaxRows(maxRows + 1);
+    }
+
+    public JdbcTemplate jdbc() {
+        return jdbcTemplate;
+    }
+
+    // chamado com a contagem de linhas lidas; o relatório não é entregue pela metade
+    public void requireWithinLimit(int rows) {
+        if (rows > maxRows) {
+            throw new BusinessException("Relatório excede o limite de " + maxRows + " linhas; reduza o intervalo");
+        }
+    }
+
+    /**
+     * Agenda o relatório no executor isolado. Fila cheia vira 503 imediato;
+     * no tempo limite a resposta também vira 503 e a consulta em andamento é
+     * cancelada com Statement.cancel: interromper a thread não basta, porque o
+     * Connector/J não aborta uma leitura de socket bloqueada por interrupção.
+     */
+    public <T> DeferredResult<T> submit(Supplier<T> work) {
+        DeferredResult<T> result = new DeferredResult<>(timeoutMs);
+        AtomicReference<Statement> statement = new AtomicReference<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                running.set(statement);
+                try {
+                    result.setResult(work.get());
+                } catch (RuntimeException e) {
+                    result.setErrorResult(e);
+                } finally {
+                    running.remove();
+                    statement.set(null);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw new ReportUnavailableException("Muitos relatórios em andamento, tente novamente em instantes", e);
+        }
+        result.onTimeout(() -> {
+            task.cancel(true);
+            cancel(statement.getAndSet(null));
+            result.setErrorResult(new ReportUnavailableException("Relatório excedeu o tempo limite"));
+        });
+        return result;
+    }
+
+    // o Connector/J envia KILL QUERY por outra conexão; a consulta termina com erro na thread do relatório
+    private static void cancel(Statement statement) {
+        if (statement == null) {
+            return;
+        }
+        try {
+            statement.cancel();
+        } catch (SQLException e) {
+            // já terminou ou foi fechado: nada a cancelar
+        }
+    }
+
+    @Override
+    public void destroy() {
+        dataSource.close();
+    }
+}
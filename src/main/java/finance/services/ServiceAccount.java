@@ -1,23 +1,31 @@
 package finance.services;
 
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import finance.config.AuthenticatedUser;
 import finance.domain.acounts.Account;
 import finance.domain.dto.accounts.AccountCreateDTO;
 import finance.domain.dto.accounts.AccountResponseDTO;
 import finance.domain.dto.accounts.AccountUpdateDTO;
+import finance.domain.money.Money;
+import finance.domain.transactions.TypeTransaction;
 import finance.domain.user.User;
 import finance.exceptions.AccountNotFoundException;
 import finance.exceptions.BusinessException;
 import finance.exceptions.UnauthorizedAccessException;
 import finance.exceptions.UserNotFoundException;
 import finance.repository.RepositoryAccount;
+import finance.repository.RepositoryAccount.AccountStats;
 import finance.repository.RepositoryUser;
-import jakarta.transaction.Transactional;
+import finance.services.DataVersionTable.Versioned;
 
 import java.math.BigDecimal;
 
@@ -27,10 +35,20 @@ public class ServiceAccount {
 
     private final  RepositoryAccount accountRepository;
     private final  RepositoryUser userRepository;
-
-    public ServiceAccount( RepositoryAccount accountRepository, RepositoryUser userRepository) {
+    private final AccountPurgeJob accountPurgeJob;
+    private final FxRateTable fxRateTable;
+    private final DataVersionTable dataVersionTable;
+    private final ReadCoalescer readCoalescer;
+
+    public ServiceAccount( RepositoryAccount accountRepository, RepositoryUser userRepository,
+            AccountPurgeJob accountPurgeJob, FxRateTable fxRateTable, DataVersionTable dataVersionTable,
+            ReadCoalescer readCoalescer) {
         this.accountRepository = accountRepository;
-        this.userRepository = userRepository;}
+        this.userRepository = userRepository;
+        this.accountPurgeJob = accountPurgeJob;
+        this.fxRateTable = fxRateTable;
+        this.dataVersionTable = dataVersionTable;
+        this.readCoalescer = readCoalescer;}
     
     @Transactional
     public AccountResponseDTO createAccount(AccountCreateDTO data) {
@@ -39,25 +57,51 @@ public class ServiceAccount {
 
       User user = userRepository.findById(userAuthLong).orElseThrow(()-> new UserNotFoundException(userAuthLong));
 
-        Account account = new Account(data.name().trim(), data.type(), data.balance());
+        Account account = new Account(data.name().trim(), data.type(), Money.of(data.balance()));
+        if (data.currency() != null) {
+            account.setCurrency(fxRateTable.requireSupported(data.currency()));
+        }
         
         account.setUser(user);
 
+        account.setSyncSeq(dataVersionTable.bump(userAuthLong));
         accountRepository.save(account);
 
         return AccountResponseDTO.toDTO(account);
     }
 
-    public List<AccountResponseDTO> getAllAccountsUser() {
+    // a versão sai da mesma transação (e da mesma réplica) que as contas: é a base do ETag da listagem
+    @Transactional(readOnly = true)
+    public Versioned<List<AccountResponseDTO>> getAllAccountsUser() {
 
       Long userAuthLong = AuthenticatedUser.getAuthenticatedUserId();
 
-      userRepository.findById(userAuthLong).orElseThrow(()-> new UserNotFoundException(userAuthLong));
+      // o JWTFilter já validou que o usuário existe; chamadas simultâneas compartilham a consulta
+      return readCoalescer.execute(userAuthLong, "accounts",
+              () -> dataVersionTable.read(userAuthLong, () -> getAccountsWithStats(userAuthLong)));
+    }
+
+    // duas consultas fixas, independente do número de contas
+    public List<AccountResponseDTO> getAccountsWithStats(Long userId) {
+        List<Account> accounts = accountRepository.findByUserId(userId);
+        if (accounts.isEmpty()) {
+            return List.of();
+        }
 
-      List<Account> accounts=accountRepository.findByUserId(userAuthLong);
-        return accounts.stream().map(AccountResponseDTO::toDTO).toList();
+        Map<Long, AccountStats> stats = accountRepository.statsByUserId(
+                userId,
+                LocalDate.now().withDayOfMonth(1).atStartOfDay(),
+                TypeTransaction.INCOME,
+                TypeTransaction.EXPENSE)
+                .stream()
+                .collect(Collectors.toMap(AccountStats::getAccountId, Function.identity()));
+
+        return accounts.stream()
+                .map(a -> AccountResponseDTO.toDTO(a, stats.get(a.getId())))
+                .toList();
     }
 
+    @Transactional(readOnly = true)
     public AccountResponseDTO getAccountById(Long id) {
         Long userId = AuthenticatedUser.getAuthenticatedUserId();
         Account account = accountRepository.findById(id)
@@ -90,9 +134,10 @@ public class ServiceAccount {
             if (data.balance().compareTo(BigDecimal.ZERO) < 0) {
                 throw new BusinessException("Saldo não pode ser negativo");
             }
-            account.setBalance(data.balance());
+            account.setBalance(Money.of(data.balance()));
         }
 
+        account.setSyncSeq(dataVersionTable.bump(userId));
         accountRepository.save(account);
         return AccountResponseDTO.toDTO(account);
     }
@@ -107,7 +152,8 @@ public class ServiceAccount {
             throw new UnauthorizedAccessException("Conta", id);
         }
 
-        accountRepository.delete(account);
+        // as transações são removidas em background pelo AccountPurgeJob
+        accountPurgeJob.requestPurge(account);
     }
 
 }
@@ -1,38 +1,83 @@
 package finance.services;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import finance.domain.acounts.Account;
+import finance.domain.dto.accounts.AccountBulkDeleteDTO;
+import finance.domain.dto.accounts.AccountBulkPatchDTO;
+import finance.domain.dto.accounts.AccountFilterDTO;
+import finance.domain.dto.accounts.AccountKeysetPageDTO;
+import finance.domain.dto.accounts.AccountPurgeResponseDTO;
 import finance.domain.dto.accounts.AccountResponseDTO;
 import finance.domain.dto.accounts.AccountUpdateDTO;
+import finance.domain.dto.accounts.BulkOperationResultDTO;
+import finance.domain.money.Money;
 import finance.exceptions.AccountNotFoundException;
 import finance.exceptions.BusinessException;
-import finance.exceptions.ResourceNotFoundException;
 import finance.repository.RepositoryAccount;
-import jakarta.transaction.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
 
 @Service
 public class ServiceAdmin {
 
+    private static final Logger logger = LoggerFactory.getLogger(ServiceAdmin.class);
+
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final RepositoryAccount accountRepository;
+    private final AccountPurgeJob accountPurgeJob;
+    private final AccountCountCache accountCountCache;
+    private final DataVersionTable dataVersionTable;
+    private final TransactionTemplate transactionTemplate;
+    private final int bulkChunkSize;
+    private final int bulkMaxIds;
 
-    public ServiceAdmin(RepositoryAccount accountRepository) {
+    public ServiceAdmin(RepositoryAccount accountRepository, AccountPurgeJob accountPurgeJob,
+            AccountCountCache accountCountCache, DataVersionTable dataVersionTable,
+            PlatformTransactionManager transactionManager,
+            @Value("${finance.admin.bulk-chunk-size:500}") int bulkChunkSize,
+            @Value("${finance.admin.bulk-max-ids:50000}") int bulkMaxIds) {
         this.accountRepository = accountRepository;
+        this.accountPurgeJob = accountPurgeJob;
+        this.accountCountCache = accountCountCache;
+        this.dataVersionTable = dataVersionTable;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bulkChunkSize = bulkChunkSize;
+        this.bulkMaxIds = bulkMaxIds;
     }
 
-    // lista todas as contas
-    public Page<AccountResponseDTO> getAllAccounts(Pageable pageable) {
+    // lista as contas por keyset; busca size + 1 linhas para saber se há próxima página
+    @Transactional(readOnly = true)
+    public AccountKeysetPageDTO getAllAccounts(AccountFilterDTO filter, Long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<Account> rows = accountRepository.findPageAfter(
+                cursor != null ? cursor : 0L,
+                filter.type(),
+                filter.userId(),
+                filter.createdFrom(),
+                filter.createdTo(),
+                Limit.of(pageSize + 1));
 
-        Page<Account> accounts = accountRepository.findAll(pageable);
+        boolean hasMore = rows.size() > pageSize;
+        List<Account> page = hasMore ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = page.isEmpty() ? null : page.get(page.size() - 1).getId();
 
-        if (accounts.isEmpty()) {
-            throw new ResourceNotFoundException("Nenhuma conta encontrada");
-        }
-        return accounts.map(AccountResponseDTO::toDTO);
+        return new AccountKeysetPageDTO(
+                page.stream().map(AccountResponseDTO::toDTO).toList(),
+                hasMore ? nextCursor : null,
+                hasMore,
+                accountCountCache.estimate(filter));
     }
 
     // atualiza contas
@@ -49,26 +94,101 @@ public class ServiceAdmin {
             if (data.balance().compareTo(BigDecimal.ZERO) < 0) {
                 throw new BusinessException("Saldo não pode ser negativo");
             }
-            account.setBalance(data.balance());
+            account.setBalance(Money.of(data.balance()));
         }
 
+        account.setSyncSeq(dataVersionTable.bump(account.getUser().getId()));
         account = accountRepository.save(account);
-        return new AccountResponseDTO(
-                account.getId(),
-                account.getUser().getId(),
-                account.getName(),
-                account.getType(),
-                account.getBalance(),
-                account.getCreatedAt());
+        return AccountResponseDTO.toDTO(account);
     }
 
     // deleta contas
     @Transactional
     public void deleteAccount(Long id) {
-        if (!accountRepository.existsById(id)) {
-            throw new AccountNotFoundException(id);
+        Account account = accountRepository.findById(id)
+                .orElseThrow(() -> new AccountNotFoundException(id));
+        accountPurgeJob.requestPurge(account);
+    }
+
+    // atualização em lote: cada lote é um UPDATE ... WHERE id IN (...) na sua própria transação
+    public BulkOperationResultDTO bulkPatch(AccountBulkPatchDTO data) {
+        AccountUpdateDTO changes = data.changes();
+        if (changes.name() == null && changes.type() == null && changes.balance() == null) {
+            throw new BusinessException("Informe ao menos um campo para alterar");
+        }
+        if (changes.balance() != null && changes.balance().compareTo(BigDecimal.ZERO) < 0) {
+            throw new BusinessException("Saldo não pode ser negativo");
+        }
+        String name = changes.name() != null ? changes.name().trim() : null;
+
+        return runInChunks(data.ids(), data.filter(), ids -> transactionTemplate.execute(status -> {
+            int affected = accountRepository.bulkPatch(ids, name, changes.type(), Money.of(changes.balance()));
+            dataVersionTable.bumpAccounts(ids);
+            accountRepository.stampSyncSeq(ids);
+            return affected;
+        }));
+    }
+
+    // exclusão em lote: soft delete + purge em background, como deleteAccount
+    public BulkOperationResultDTO bulkDelete(AccountBulkDeleteDTO data) {
+        return runInChunks(data.ids(), data.filter(), accountPurgeJob::requestPurgeAll);
+    }
+
+    // percorre a seleção por ids ou por filtro (keyset em id) em lotes de bulkChunkSize
+    private BulkOperationResultDTO runInChunks(List<Long> ids, AccountFilterDTO filter,
+            ToIntFunction<List<Long>> operation) {
+        boolean byIds = ids != null && !ids.isEmpty();
+        if (byIds == (filter != null)) {
+            throw new BusinessException("Informe a lista de ids ou o filtro, não ambos");
+        }
+        if (byIds && ids.size() > bulkMaxIds) {
+            throw new BusinessException("Máximo de " + bulkMaxIds + " ids por requisição");
         }
-        accountRepository.deleteById(id);
+        if (!byIds && filter.type() == null && filter.userId() == null
+                && filter.createdFrom() == null && filter.createdTo() == null) {
+            throw new BusinessException("O filtro precisa de ao menos um critério");
+        }
+
+        List<Long> sorted = byIds ? ids.stream().distinct().sorted().toList() : List.of();
+        List<BulkOperationResultDTO.Chunk> chunks = new ArrayList<>();
+        long affected = 0;
+        long afterId = 0;
+        int offset = 0;
+
+        while (true) {
+            List<Long> chunk;
+            if (byIds) {
+                if (offset >= sorted.size()) {
+                    break;
+                }
+                chunk = sorted.subList(offset, Math.min(offset + bulkChunkSize, sorted.size()));
+                offset += chunk.size();
+            } else {
+                chunk = accountRepository.findIdsAfter(afterId, filter.type(), filter.userId(),
+                        filter.createdFrom(), filter.createdTo(), Limit.of(bulkChunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+            }
+            afterId = chunk.get(chunk.size() - 1);
+
+            int n = operation.applyAsInt(chunk);
+            affected += n;
+            chunks.add(new BulkOperationResultDTO.Chunk(chunks.size(), chunk.get(0), afterId, n));
+            logger.info("Lote {} de contas ({}..{}): {} afetadas", chunks.size() - 1, chunk.get(0), afterId, n);
+
+            if (!byIds && chunk.size() < bulkChunkSize) {
+                break;
+            }
+        }
+
+        accountCountCache.invalidate();
+        return new BulkOperationResultDTO(affected, chunks);
+    }
+
+    // purges ainda não concluídos, com o número de transações já removidas
+    public List<AccountPurgeResponseDTO> getPendingPurges() {
+        return accountPurgeJob.getPendingPurges();
     }
 
 }
@@ -0,0 +1,72 @@
+package finance.services;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import finance.domain.dto.metrics.AdminMetricsSummaryDTO;
+import finance.domain.dto.metrics.DailyVolumeDTO;
+import finance.domain.metrics.MetricsState;
+import finance.exceptions.BusinessException;
+import finance.repository.RepositoryAccountTypeMetric;
+import finance.repository.RepositoryDailyTransactionMetric;
+import finance.repository.RepositoryMetricsState;
+
+// lê apenas as tabelas de métricas mantidas pelo AdminMetricsJob
+@Service
+public class ServiceAdminMetrics {
+
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private final RepositoryMetricsState stateRepository;
+    private final RepositoryAccountTypeMetric accountTypeRepository;
+    private final RepositoryDailyTransactionMetric dailyRepository;
+    private final CategoryDictionary categoryDictionary;
+
+    public ServiceAdminMetrics(RepositoryMetricsState stateRepository,
+            RepositoryAccountTypeMetric accountTypeRepository,
+            RepositoryDailyTransactionMetric dailyRepository,
+            CategoryDictionary categoryDictionary) {
+        this.stateRepository = stateRepository;
+        this.accountTypeRepository = accountTypeRepository;
+        this.dailyRepository = dailyRepository;
+        this.categoryDictionary = categoryDictionary;
+    }
+
+    public AdminMetricsSummaryDTO getSummary() {
+        MetricsState state = stateRepository.findById(MetricsState.SINGLETON_ID).orElse(null);
+        List<AdminMetricsSummaryDTO.AccountTypeTotal> byType = accountTypeRepository.findAll().stream()
+                .map(AdminMetricsSummaryDTO.AccountTypeTotal::toDTO)
+                .toList();
+
+        long accounts = byType.stream().mapToLong(AdminMetricsSummaryDTO.AccountTypeTotal::accounts).sum();
+        BigDecimal totalBalance = byType.stream()
+                .map(AdminMetricsSummaryDTO.AccountTypeTotal::totalBalance)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return new AdminMetricsSummaryDTO(
+                state != null ? state.getUsersCount() : 0,
+                accounts,
+                totalBalance,
+                byType,
+                state != null ? state.getUnpricedAccounts() : 0,
+                state != null && state.getUnpricedCurrencies() != null
+                        ? List.of(state.getUnpricedCurrencies().split(","))
+                        : List.of(),
+                state != null ? state.getRefreshedAt() : null);
+    }
+
+    public List<DailyVolumeDTO> getDailyVolume(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new BusinessException("Data final anterior à inicial");
+        }
+        if (from.plusDays(MAX_RANGE_DAYS).isBefore(to)) {
+            throw new BusinessException("Intervalo máximo de " + MAX_RANGE_DAYS + " dias");
+        }
+        return dailyRepository.findByDayBetweenOrderByDayAscCategoryIdAscCurrencyAsc(from, to).stream()
+                .map(m -> DailyVolumeDTO.toDTO(m, categoryDictionary.systemNameOf(m.getCategoryId())))
+                .toList();
+    }
+}
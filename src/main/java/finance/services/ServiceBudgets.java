@@ -0,0 +1,182 @@
+package finance.services;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import finance.config.AuthenticatedUser;
+import finance.domain.budgets.Budget;
+import finance.domain.budgets.BudgetThresholdEvent;
+import finance.domain.dto.budgets.BudgetCreateDTO;
+import finance.domain.dto.budgets.BudgetResponseDTO;
+import finance.domain.dto.budgets.BudgetUpdateDTO;
+import finance.domain.money.Money;
+import finance.domain.transactions.Transaction;
+import finance.domain.transactions.TypeTransaction;
+import finance.exceptions.DuplicateResourceException;
+import finance.exceptions.ResourceNotFoundException;
+import finance.exceptions.UnauthorizedAccessException;
+import finance.repository.RepositoryBudget;
+import finance.repository.RepositoryUser;
+import jakarta.transaction.Transactional;
+
+@Service
+public class ServiceBudgets {
+
+    private static final int DEFAULT_ALERT_PERCENT = 80;
+
+    private final RepositoryBudget budgetRepository;
+    private final RepositoryUser userRepository;
+    private final CategoryDictionary categoryDictionary;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ServiceBudgets(RepositoryBudget budgetRepository, RepositoryUser userRepository,
+            CategoryDictionary categoryDictionary, ApplicationEventPublisher eventPublisher) {
+        this.budgetRepository = budgetRepository;
+        this.userRepository = userRepository;
+        this.categoryDictionary = categoryDictionary;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    public BudgetResponseDTO createBudget(BudgetCreateDTO data) {
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+
+        String categoryName = categoryDictionary.nameOf(userId, data.categoryId());
+        if (categoryName == null) {
+            throw new ResourceNotFoundException("Categoria", data.categoryId());
+        }
+
+        if (budgetRepository.existsByUserIdAndCategoryIdAndYearAndMonth(userId, data.categoryId(), data.year(),
+                data.month())) {
+            throw new DuplicateResourceException("Orçamento", categoryName + " " + data.month() + "/" + data.year());
+        }
+
+        // semeia o contador com os gastos já lançados no mês
+        YearMonth period = YearMonth.of(data.year(), data.month());
+        Money consumed = Money.of(budgetRepository.sumExpenses(userId, data.categoryId(),
+                period.atDay(1).atStartOfDay(), period.plusMonths(1).atDay(1).atStartOfDay()));
+
+        Budget budget = new Budget(
+                userRepository.getReferenceById(userId),
+                data.categoryId(),
+                Money.of(data.limitAmount()),
+                data.alertPercent() != null ? data.alertPercent() : DEFAULT_ALERT_PERCENT,
+                data.month(),
+                data.year(),
+                consumed);
+
+        budgetRepository.save(budget);
+        return BudgetResponseDTO.toDTO(budget, categoryName);
+    }
+
+    // leitura O(#orçamentos): o consumo já está materializado em consumed_amount
+    public List<BudgetResponseDTO> getBudgets(YearMonth period) {
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+        return budgetRepository.findByUserIdAndYearAndMonthOrderByCategoryId(userId, period.getYear(),
+                period.getMonthValue()).stream()
+                .map(b -> BudgetResponseDTO.toDTO(b, categoryDictionary.nameOf(userId, b.getCategoryId())))
+                .toList();
+    }
+
+    @Transactional
+    public BudgetResponseDTO updateBudget(Long id, BudgetUpdateDTO data) {
+        Budget budget = findOwnedBudget(id);
+
+        if (data.limitAmount() != null)
+            budget.setLimitAmount(Money.of(data.limitAmount()));
+        if (data.alertPercent() != null)
+            budget.setAlertPercent(data.alertPercent());
+
+        budgetRepository.save(budget);
+        return BudgetResponseDTO.toDTO(budget,
+                categoryDictionary.nameOf(budget.getUser().getId(), budget.getCategoryId()));
+    }
+
+    @Transactional
+    public void deleteBudget(Long id) {
+        budgetRepository.delete(findOwnedBudget(id));
+    }
+
+    /**
+     * Aplica um delta de gasto ao orçamento da categoria/mês, se existir.
+     * Deve ser chamado dentro da transação que grava a despesa. O cruzamento
+     * do alerta ou do limite é detectado comparando o valor antes e depois,
+     * sem consultas adicionais.
+     */
+    public void registerExpense(Long userId, Long categoryId, LocalDateTime when, Money delta) {
+        if (categoryId == null || delta.isZero()) {
+            return;
+        }
+
+        budgetRepository.findForUpdateByUserIdAndCategoryIdAndYearAndMonth(userId, categoryId, when.getYear(),
+                when.getMonthValue()).ifPresent(budget -> {
+                    Money before = budget.getConsumedAmount();
+                    Money after = before.plus(delta);
+                    budget.setConsumedAmount(after);
+
+                    boolean crossedLimit = crossed(before, after, budget.getLimitAmount());
+                    boolean crossedAlert = crossed(before, after, budget.alertAmount());
+                    if (crossedLimit || crossedAlert) {
+                        eventPublisher.publishEvent(new BudgetThresholdEvent(
+                                budget.getId(),
+                                userId,
+                                categoryId,
+                                categoryDictionary.nameOf(userId, categoryId),
+                                budget.getMonth(),
+                                budget.getYear(),
+                                budget.getLimitAmount(),
+                                after,
+                                crossedLimit));
+                    }
+                });
+    }
+
+    /**
+     * Versão em lote de registerExpense para recorrências e parcelamentos:
+     * agrega as despesas por usuário, categoria e mês e aplica um único delta
+     * por orçamento, em ordem fixa para que lotes concorrentes travem as
+     * linhas na mesma sequência.
+     */
+    public void registerExpenses(List<Transaction> transactions) {
+        Map<BudgetKey, Money> deltas = new TreeMap<>(BudgetKey.ORDER);
+        for (Transaction transaction : transactions) {
+            if (transaction.getType() != TypeTransaction.EXPENSE || transaction.getCategoryId() == null) {
+                continue;
+            }
+            BudgetKey key = new BudgetKey(transaction.getAccount().getUser().getId(), transaction.getCategoryId(),
+                    YearMonth.from(transaction.getCreated()));
+            deltas.merge(key, transaction.getAmount(), Money::plus);
+        }
+        deltas.forEach((key, delta) -> registerExpense(key.userId(), key.categoryId(),
+                key.period().atDay(1).atStartOfDay(), delta));
+    }
+
+    private record BudgetKey(Long userId, Long categoryId, YearMonth period) {
+        static final Comparator<BudgetKey> ORDER = Comparator.comparing(BudgetKey::userId)
+                .thenComparing(BudgetKey::categoryId)
+                .thenComparing(BudgetKey::period);
+    }
+
+    private static boolean crossed(Money before, Money after, Money threshold) {
+        return before.isLessThan(threshold) && !after.isLessThan(threshold);
+    }
+
+    private Budget findOwnedBudget(Long id) {
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+        Budget budget = budgetRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Orçamento", id));
+
+        if (!budget.getUser().getId().equals(userId)) {
+            throw new UnauthorizedAccessException("Orçamento", id);
+        }
+        return budget;
+    }
+
+}
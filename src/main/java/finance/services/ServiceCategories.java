@@ -0,0 +1,178 @@
+package finance.services;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import finance.config.AuthenticatedUser;
+import finance.domain.categories.Category;
+import finance.domain.categories.CategoryEntry;
+import finance.domain.dto.categories.CategoryCreateDTO;
+import finance.domain.dto.categories.CategoryResponseDTO;
+import finance.domain.dto.categories.CategoryUpdateDTO;
+import finance.domain.transactions.CategoryTransactions;
+import finance.domain.transactions.TypeTransaction;
+import finance.exceptions.DuplicateResourceException;
+import finance.exceptions.ResourceNotFoundException;
+import finance.exceptions.UnauthorizedAccessException;
+import finance.repository.RepositoryBudget;
+import finance.repository.RepositoryCategory;
+import finance.repository.RepositoryRecurrence;
+import finance.repository.RepositoryTransactions;
+import finance.repository.RepositoryUser;
+import jakarta.transaction.Transactional;
+
+@Service
+public class ServiceCategories implements ApplicationRunner {
+
+    private final RepositoryCategory categoryRepository;
+    private final RepositoryUser userRepository;
+    private final RepositoryTransactions transactionRepository;
+    private final RepositoryBudget budgetRepository;
+    private final RepositoryRecurrence recurrenceRepository;
+    private final CategoryDictionary dictionary;
+    private final DataVersionTable dataVersionTable;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ServiceCategories(RepositoryCategory categoryRepository, RepositoryUser userRepository,
+            RepositoryTransactions transactionRepository, RepositoryBudget budgetRepository,
+            RepositoryRecurrence recurrenceRepository, CategoryDictionary dictionary,
+            DataVersionTable dataVersionTable, JdbcTemplate jdbcTemplate) {
+        this.categoryRepository = categoryRepository;
+        this.userRepository = userRepository;
+        this.transactionRepository = transactionRepository;
+        this.budgetRepository = budgetRepository;
+        this.recurrenceRepository = recurrenceRepository;
+        this.dictionary = dictionary;
+        this.dataVersionTable = dataVersionTable;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // garante que as categorias padrão (CategoryTransactions) existam no banco; uk_categories_system
+    // faz o INSERT IGNORE de nós subindo ao mesmo tempo não duplicar a categoria
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        List<String> existing = categoryRepository.findByUserIsNull().stream().map(Category::getName).toList();
+        for (CategoryTransactions category : CategoryTransactions.values()) {
+            if (!existing.contains(category.name())) {
+                jdbcTemplate.update(
+                        "INSERT IGNORE INTO categories (user_id, name, type, system_name) VALUES (NULL, ?, ?, ?)",
+                        category.name(), TypeTransaction.EXPENSE.name(), category.name());
+            }
+        }
+        backfillLegacyCategories();
+        dictionary.invalidateSystem();
+    }
+
+    // bancos criados pelo ddl-auto ainda têm a coluna texto transactions.category do antigo enum
+    private void backfillLegacyCategories() {
+        Integer legacyColumn = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'transactions' AND column_name = 'category'
+                """, Integer.class);
+        if (legacyColumn == null || legacyColumn == 0) {
+            return;
+        }
+        jdbcTemplate.update("""
+                UPDATE transactions t
+                JOIN categories c ON c.user_id IS NULL AND c.name = t.category
+                SET t.category_id = c.id
+                WHERE t.category_id IS NULL AND t.category IS NOT NULL
+                """);
+    }
+
+    public List<CategoryResponseDTO> getAllCategories() {
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+        return dictionary.visibleTo(userId).stream()
+                .sorted(Comparator.comparing(CategoryEntry::name))
+                .map(CategoryResponseDTO::toDTO)
+                .toList();
+    }
+
+    @Transactional
+    public CategoryResponseDTO createCategory(CategoryCreateDTO data) {
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+        String name = data.name().trim();
+
+        if (categoryRepository.existsByUserIdAndNameIgnoreCase(userId, name)) {
+            throw new DuplicateResourceException("Categoria", name);
+        }
+
+        Category category = new Category(userRepository.getReferenceById(userId), name, data.type(), data.icon(),
+                data.color());
+        categoryRepository.save(category);
+        dictionary.invalidate(userId);
+        dataVersionTable.bump(userId);
+
+        return CategoryResponseDTO.toDTO(CategoryEntry.of(category, userId));
+    }
+
+    // o nome da categoria vai embutido nas listagens de transações: renomear muda o ETag delas
+    @Transactional
+    public CategoryResponseDTO updateCategory(Long id, CategoryUpdateDTO data) {
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+        Category category = findOwnedCategory(userId, id);
+
+        if (data.name() != null) {
+            String name = data.name().trim();
+            // mesma regra da criação: dois nomes iguais não se distinguem no dicionário nem nos relatórios
+            if (categoryRepository.existsByUserIdAndNameIgnoreCaseAndIdNot(userId, name, id)) {
+                throw new DuplicateResourceException("Categoria", name);
+            }
+            category.setName(name);
+        }
+        if (data.type() != null)
+            category.setType(data.type());
+        if (data.icon() != null)
+            category.setIcon(data.icon());
+        if (data.color() != null)
+            category.setColor(data.color());
+
+        categoryRepository.save(category);
+        dictionary.invalidate(userId);
+        dataVersionTable.bump(userId);
+
+        return CategoryResponseDTO.toDTO(CategoryEntry.of(category, userId));
+    }
+
+    // equivale ao ON DELETE SET NULL / CASCADE do schema
+    @Transactional
+    public void deleteCategory(Long id) {
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+        Category category = findOwnedCategory(userId, id);
+
+        // as transações que perdem a categoria voltam para a sincronização incremental
+        long seq = dataVersionTable.bump(userId);
+        transactionRepository.clearCategory(id, seq);
+        recurrenceRepository.clearCategory(id);
+        budgetRepository.deleteByCategoryId(id);
+        categoryRepository.delete(category);
+        dictionary.invalidate(userId);
+    }
+
+    /**
+     * Valida que a categoria informada é do usuário ou padrão do sistema.
+     * Resolve pelo dicionário, sem consulta ao banco.
+     */
+    public Long requireVisible(Long userId, Long categoryId) {
+        if (categoryId != null && dictionary.find(userId, categoryId) == null) {
+            throw new ResourceNotFoundException("Categoria", categoryId);
+        }
+        return categoryId;
+    }
+
+    private Category findOwnedCategory(Long userId, Long id) {
+        Category category = categoryRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Categoria", id));
+
+        if (category.getUser() == null || !category.getUser().getId().equals(userId)) {
+            throw new UnauthorizedAccessException("Categoria", id);
+        }
+        return category;
+    }
+}
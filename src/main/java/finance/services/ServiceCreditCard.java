@@ -0,0 +1,182 @@
+package finance.services;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import finance.config.AuthenticatedUser;
+import finance.domain.acounts.Account;
+import finance.domain.credit.BillingCycle;
+import finance.domain.dto.credit.CreditCardResponseDTO;
+import finance.domain.dto.credit.CreditCardSettingsDTO;
+import finance.domain.dto.credit.CreditStatementDTO;
+import finance.domain.money.Money;
+import finance.domain.transactions.Transaction;
+import finance.domain.transactions.TypeTransaction;
+import finance.exceptions.AccountNotFoundException;
+import finance.exceptions.BusinessException;
+import finance.exceptions.CreditLimitExceededException;
+import finance.exceptions.InsufficientBalanceException;
+import finance.exceptions.UnauthorizedAccessException;
+import finance.repository.RepositoryAccount;
+import finance.repository.RepositoryCreditStatement;
+import jakarta.transaction.Transactional;
+
+@Service
+public class ServiceCreditCard {
+
+    private static final int MAX_STATEMENTS = 36;
+
+    private final RepositoryAccount accountRepository;
+    private final RepositoryCreditStatement statementRepository;
+    private final DataVersionTable dataVersionTable;
+    private final int defaultClosingDay;
+    private final int defaultDueDay;
+
+    public ServiceCreditCard(RepositoryAccount accountRepository, RepositoryCreditStatement statementRepository,
+            DataVersionTable dataVersionTable,
+            @Value("${finance.credit.default-closing-day:25}") int defaultClosingDay,
+            @Value("${finance.credit.default-due-day:5}") int defaultDueDay) {
+        this.accountRepository = accountRepository;
+        this.statementRepository = statementRepository;
+        this.dataVersionTable = dataVersionTable;
+        this.defaultClosingDay = defaultClosingDay;
+        this.defaultDueDay = defaultDueDay;
+    }
+
+    /**
+     * Valida se a conta comporta um débito: contas de crédito usam o limite
+     * disponível, as demais o saldo.
+     */
+    public void requireFunds(Account account, Money amount) {
+        if (account.isCredit()) {
+            if (account.availableCredit().isLessThan(amount)) {
+                throw new CreditLimitExceededException(account.availableCredit(), amount);
+            }
+        } else if (account.getBalance().isLessThan(amount)) {
+            throw new InsufficientBalanceException(account.getBalance(), amount);
+        }
+    }
+
+    // saldo ou limite que ainda pode ser debitado, conforme o tipo da conta
+    public Money available(Account account) {
+        return account.isCredit() ? account.availableCredit() : account.getBalance();
+    }
+
+    public BillingCycle cycleOf(Account account, LocalDate day) {
+        int closingDay = account.getClosingDay() != null ? account.getClosingDay() : defaultClosingDay;
+        int dueDay = account.getDueDay() != null ? account.getDueDay() : defaultDueDay;
+        return BillingCycle.containing(day, closingDay, dueDay);
+    }
+
+    /**
+     * Soma (direction = 1) ou estorna (direction = -1) uma transação na fatura
+     * do ciclo em que ela cai. Contas que não são de crédito são ignoradas.
+     */
+    public void record(Account account, LocalDate day, TypeTransaction type, Money amount, int direction) {
+        if (!account.isCredit()) {
+            return;
+        }
+        BillingCycle cycle = cycleOf(account, day);
+        Money signed = direction < 0 ? amount.negate() : amount;
+        Money charges = type == TypeTransaction.EXPENSE ? signed : Money.ZERO;
+        Money payments = type == TypeTransaction.INCOME ? signed : Money.ZERO;
+        statementRepository.addToCycle(account.getId(), cycle.start(), cycle.closing(), cycle.due(),
+                charges.toBigDecimal(), payments.toBigDecimal(), direction < 0 ? -1 : 1, LocalDateTime.now());
+    }
+
+    public void record(Transaction transaction, int direction) {
+        record(transaction.getAccount(), billingDay(transaction), transaction.getType(), transaction.getAmount(),
+                direction);
+    }
+
+    // lotes (recorrências, parcelamentos) viram um upsert por conta e ciclo
+    public void recordAll(List<Transaction> transactions) {
+        Map<Long, Map<BillingCycle, CycleDelta>> deltas = new HashMap<>();
+        for (Transaction transaction : transactions) {
+            Account account = transaction.getAccount();
+            if (!account.isCredit()) {
+                continue;
+            }
+            BillingCycle cycle = cycleOf(account, billingDay(transaction));
+            CycleDelta delta = deltas.computeIfAbsent(account.getId(), id -> new HashMap<>())
+                    .computeIfAbsent(cycle, c -> new CycleDelta());
+            if (transaction.getType() == TypeTransaction.EXPENSE) {
+                delta.charges = delta.charges.plus(transaction.getAmount());
+            } else {
+                delta.payments = delta.payments.plus(transaction.getAmount());
+            }
+            delta.count++;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        deltas.forEach((accountId, cycles) -> cycles.forEach((cycle, delta) -> statementRepository.addToCycle(
+                accountId, cycle.start(), cycle.closing(), cycle.due(),
+                delta.charges.toBigDecimal(), delta.payments.toBigDecimal(), delta.count, now)));
+    }
+
+    public CreditCardResponseDTO getCard(Long accountId) {
+        return CreditCardResponseDTO.toDTO(requireCreditAccount(accountId));
+    }
+
+    // faturas já registradas mantêm o ciclo original; a mudança vale para as próximas transações
+    @Transactional
+    public CreditCardResponseDTO updateSettings(Long accountId, CreditCardSettingsDTO data) {
+        Account account = requireCreditAccount(accountId);
+        account.setCreditLimit(Money.of(data.creditLimit()));
+        account.setClosingDay(data.closingDay());
+        account.setDueDay(data.dueDay());
+        account.setSyncSeq(dataVersionTable.bump(account.getUser().getId()));
+        accountRepository.save(account);
+        return CreditCardResponseDTO.toDTO(account);
+    }
+
+    // leitura por chave única (conta, fechamento); sem varrer transações
+    public CreditStatementDTO getCurrentStatement(Long accountId) {
+        Account account = requireCreditAccount(accountId);
+        LocalDate today = LocalDate.now();
+        BillingCycle cycle = cycleOf(account, today);
+        return statementRepository.findByAccountIdAndClosingDate(accountId, cycle.closing())
+                .map(s -> CreditStatementDTO.toDTO(s, today))
+                .orElseGet(() -> CreditStatementDTO.empty(accountId, cycle, today));
+    }
+
+    public List<CreditStatementDTO> getStatements(Long accountId, int limit) {
+        requireCreditAccount(accountId);
+        LocalDate today = LocalDate.now();
+        int size = Math.max(1, Math.min(limit, MAX_STATEMENTS));
+        return statementRepository.findByAccountIdOrderByClosingDateDesc(accountId, Limit.of(size)).stream()
+                .map(s -> CreditStatementDTO.toDTO(s, today))
+                .toList();
+    }
+
+    private Account requireCreditAccount(Long accountId) {
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new AccountNotFoundException(accountId));
+        if (!account.getUser().getId().equals(userId)) {
+            throw new UnauthorizedAccessException("Conta", accountId);
+        }
+        if (!account.isCredit()) {
+            throw new BusinessException("Apenas contas de crédito possuem fatura");
+        }
+        return account;
+    }
+
+    // parcelas entram na fatura do vencimento; o resto na data da transação
+    private static LocalDate billingDay(Transaction transaction) {
+        return transaction.getDueDate() != null ? transaction.getDueDate() : transaction.getCreated().toLocalDate();
+    }
+
+    private static final class CycleDelta {
+        Money charges = Money.ZERO;
+        Money payments = Money.ZERO;
+        int count;
+    }
+}
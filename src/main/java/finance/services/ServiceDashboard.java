@@ -0,0 +1,156 @@
+package finance.services;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import finance.config.AuthenticatedUser;
+import finance.domain.dto.accounts.AccountResponseDTO;
+import finance.domain.dto.dashboard.DashboardSummaryDTO;
+import finance.domain.dto.transactions.TransactionResponseDTO;
+import finance.domain.dto.user.UserProfileDTO;
+import finance.domain.fx.FxSnapshot;
+import finance.domain.money.Money;
+import finance.domain.transactions.Transaction;
+import finance.domain.transactions.TypeTransaction;
+import finance.exceptions.UserNotFoundException;
+import finance.repository.RepositoryAccount;
+import finance.repository.RepositoryTransactions;
+import finance.repository.RepositoryUser;
+
+@Service
+public class ServiceDashboard {
+
+    private static final Comparator<Transaction> MOST_RECENT_FIRST = Comparator
+            .comparing(Transaction::getCreated)
+            .thenComparing(Transaction::getId)
+            .reversed();
+
+    private final RepositoryUser userRepository;
+    private final ServiceAccount serviceAccount;
+    private final RepositoryAccount accountRepository;
+    private final RepositoryTransactions transactionRepository;
+    private final CategoryDictionary categoryDictionary;
+    private final FxRateTable fxRateTable;
+    private final Executor executor;
+    private final int maxRecent;
+
+    public ServiceDashboard(RepositoryUser userRepository,
+            ServiceAccount serviceAccount,
+            RepositoryAccount accountRepository,
+            RepositoryTransactions transactionRepository,
+            CategoryDictionary categoryDictionary,
+            FxRateTable fxRateTable,
+            @Qualifier("dashboardExecutor") Executor executor,
+            @Value("${finance.dashboard.max-recent:50}") int maxRecent) {
+        this.userRepository = userRepository;
+        this.serviceAccount = serviceAccount;
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.categoryDictionary = categoryDictionary;
+        this.fxRateTable = fxRateTable;
+        this.executor = executor;
+        this.maxRecent = maxRecent;
+    }
+
+    // as quatro consultas são independentes e rodam em paralelo; o id do usuário é
+    // lido aqui porque o SecurityContext não é propagado para as threads do pool
+    public DashboardSummaryDTO getSummary(int recent) {
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+        int limit = Math.max(1, Math.min(recent, maxRecent));
+        LocalDateTime monthStart = LocalDate.now().withDayOfMonth(1).atStartOfDay();
+
+        CompletableFuture<UserProfileDTO> profile = async(() -> userRepository.findById(userId)
+                .map(UserProfileDTO::toDTO)
+                .orElseThrow(() -> new UserNotFoundException(userId)));
+
+        CompletableFuture<List<AccountResponseDTO>> accounts = async(() -> serviceAccount.getAccountsWithStats(userId));
+
+        CompletableFuture<List<TransactionResponseDTO>> transactions = async(() -> recentTransactions(userId, limit)
+                .stream()
+                .map(t -> TransactionResponseDTO.toDTO(t, categoryDictionary.nameOf(userId, t.getCategoryId())))
+                .toList());
+
+        CompletableFuture<List<RepositoryTransactions.TypeTotal>> totals = async(
+                () -> transactionRepository.totalsByTypeSince(userId, monthStart));
+
+        try {
+            CompletableFuture.allOf(profile, accounts, transactions, totals).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        // contas em outras moedas entram convertidas pela tabela de câmbio em memória; moeda sem
+        // cotação neste nó (ainda não recarregada) fica fora dos totais e é listada na resposta
+        FxSnapshot fx = fxRateTable.snapshot();
+        Set<String> unpriced = new TreeSet<>();
+        Money netWorth = Money.ZERO;
+        for (AccountResponseDTO account : accounts.join()) {
+            netWorth = netWorth.plus(toBase(fx, account.balance(), account.currency(), unpriced));
+        }
+
+        Money income = Money.ZERO;
+        Money expense = Money.ZERO;
+        for (RepositoryTransactions.TypeTotal total : totals.join()) {
+            Money converted = toBase(fx, Money.of(total.getTotal()), total.getCurrency(), unpriced);
+            if (total.getType() == TypeTransaction.INCOME) {
+                income = income.plus(converted);
+            } else if (total.getType() == TypeTransaction.EXPENSE) {
+                expense = expense.plus(converted);
+            }
+        }
+
+        return new DashboardSummaryDTO(
+                profile.join(),
+                accounts.join(),
+                netWorth,
+                fx.baseCurrency(),
+                transactions.join(),
+                income,
+                expense,
+                income.minus(expense),
+                List.copyOf(unpriced));
+    }
+
+    // top-N de cada conta pelo índice (account_id, created), mesclado em memória: ordenar
+    // por created todas as contas do usuário numa consulta só não tem índice e vira filesort.
+    // Parcelas futuras (created no vencimento) ficam de fora até vencerem.
+    private List<Transaction> recentTransactions(Long userId, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        return accountRepository.findIdsByUserId(userId).stream()
+                .flatMap(accountId -> transactionRepository.findRecentByAccountId(accountId, now, Limit.of(limit))
+                        .stream())
+                .sorted(MOST_RECENT_FIRST)
+                .limit(limit)
+                .toList();
+    }
+
+    // usa o mesmo snapshot para todas as conversões da resposta; sem cotação, conta zero
+    private static Money toBase(FxSnapshot fx, Money amount, String currency, Set<String> unpriced) {
+        Money converted = fx.convert(amount, currency, fx.baseCurrency());
+        if (converted == null) {
+            unpriced.add(currency);
+            return Money.ZERO;
+        }
+        return converted;
+    }
+
+    private <T> CompletableFuture<T> async(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, executor);
+    }
+}
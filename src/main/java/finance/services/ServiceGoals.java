@@ -0,0 +1,185 @@
+package finance.services;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import finance.config.AuthenticatedUser;
+import finance.domain.dto.goals.GoalCreateDTO;
+import finance.domain.dto.goals.GoalProjectionDTO;
+import finance.domain.dto.goals.GoalResponseDTO;
+import finance.domain.dto.goals.GoalUpdateDTO;
+import finance.domain.goals.Goal;
+import finance.domain.goals.GoalChangedEvent;
+import finance.domain.goals.GoalStatus;
+import finance.domain.transactions.TypeTransaction;
+import finance.exceptions.ResourceNotFoundException;
+import finance.exceptions.UnauthorizedAccessException;
+import finance.repository.RepositoryGoal;
+import finance.repository.RepositoryTransactions;
+import finance.repository.RepositoryTransactions.MonthlyTotal;
+import finance.repository.RepositoryUser;
+import jakarta.transaction.Transactional;
+
+@Service
+public class ServiceGoals {
+
+    private final RepositoryGoal goalRepository;
+    private final RepositoryUser userRepository;
+    private final RepositoryTransactions transactionRepository;
+    private final GoalProjectionSimulator simulator;
+    private final GoalProjectionCache projectionCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int projectionPaths;
+    private final int historyMonths;
+
+    public ServiceGoals(RepositoryGoal goalRepository, RepositoryUser userRepository,
+            RepositoryTransactions transactionRepository, GoalProjectionSimulator simulator,
+            GoalProjectionCache projectionCache, ApplicationEventPublisher eventPublisher,
+            @Value("${finance.goals.projection-paths:100000}") int projectionPaths,
+            @Value("${finance.goals.history-months:24}") int historyMonths) {
+        this.goalRepository = goalRepository;
+        this.userRepository = userRepository;
+        this.transactionRepository = transactionRepository;
+        this.simulator = simulator;
+        this.projectionCache = projectionCache;
+        this.eventPublisher = eventPublisher;
+        this.projectionPaths = projectionPaths;
+        this.historyMonths = historyMonths;
+    }
+
+    @Transactional
+    public GoalResponseDTO createGoal(GoalCreateDTO data) {
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+
+        Goal goal = new Goal(
+                userRepository.getReferenceById(userId),
+                data.title().trim(),
+                data.targetAmount(),
+                data.savedAmount() != null ? data.savedAmount() : BigDecimal.ZERO,
+                data.deadline());
+
+        goalRepository.save(goal);
+        return GoalResponseDTO.toDTO(goal);
+    }
+
+    public List<GoalResponseDTO> getAllGoals() {
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+        return goalRepository.findByUserIdOrderByDeadline(userId).stream()
+                .map(GoalResponseDTO::toDTO)
+                .toList();
+    }
+
+    @Transactional
+    public GoalResponseDTO updateGoal(Long id, GoalUpdateDTO data) {
+        Goal goal = findOwnedGoal(id);
+
+        if (data.title() != null)
+            goal.setTitle(data.title().trim());
+        if (data.targetAmount() != null)
+            goal.setTargetAmount(data.targetAmount());
+        if (data.savedAmount() != null)
+            goal.setSavedAmount(data.savedAmount());
+        if (data.deadline() != null)
+            goal.setDeadline(data.deadline());
+        if (data.status() != null)
+            goal.setStatus(data.status());
+
+        if (goal.getStatus() == GoalStatus.ACTIVE && goal.getSavedAmount().compareTo(goal.getTargetAmount()) >= 0) {
+            goal.setStatus(GoalStatus.COMPLETED);
+        }
+
+        goalRepository.save(goal);
+        eventPublisher.publishEvent(new GoalChangedEvent(goal.getUser().getId(), id));
+        return GoalResponseDTO.toDTO(goal);
+    }
+
+    @Transactional
+    public void deleteGoal(Long id) {
+        Goal goal = findOwnedGoal(id);
+        goalRepository.delete(goal);
+        eventPublisher.publishEvent(new GoalChangedEvent(goal.getUser().getId(), id));
+    }
+
+    public GoalProjectionDTO getProjection(Long id) {
+        Goal goal = findOwnedGoal(id);
+        Long userId = goal.getUser().getId();
+        return projectionCache.get(userId, id, () -> project(userId, goal));
+    }
+
+    private GoalProjectionDTO project(Long userId, Goal goal) {
+        double[] monthlyNet = monthlyNetHistory(userId);
+        int months = (int) Math.max(0, ChronoUnit.MONTHS.between(YearMonth.now(), YearMonth.from(goal.getDeadline())));
+
+        GoalProjectionSimulator.Result result = simulator.simulate(
+                monthlyNet,
+                months,
+                goal.getSavedAmount().doubleValue(),
+                goal.getTargetAmount().doubleValue(),
+                projectionPaths,
+                System.nanoTime());
+
+        double average = 0;
+        for (double net : monthlyNet) {
+            average += net;
+        }
+        if (monthlyNet.length > 0) {
+            average /= monthlyNet.length;
+        }
+
+        return new GoalProjectionDTO(
+                goal.getId(),
+                result.probability(),
+                months,
+                projectionPaths,
+                monthlyNet.length,
+                money(average),
+                money(result.mean()),
+                money(result.p10()),
+                money(result.p50()),
+                money(result.p90()));
+    }
+
+    // saldo líquido (receitas - despesas) de cada mês fechado do histórico recente;
+    // meses sem movimento entre o primeiro registro e o mês passado contam como zero
+    private double[] monthlyNetHistory(Long userId) {
+        YearMonth current = YearMonth.now();
+        YearMonth first = current.minusMonths(historyMonths);
+        List<MonthlyTotal> totals = transactionRepository.monthlyTotals(userId,
+                first.atDay(1).atStartOfDay(), current.atDay(1).atStartOfDay());
+
+        double[] net = new double[historyMonths];
+        int earliest = historyMonths;
+        for (MonthlyTotal total : totals) {
+            int index = (int) ChronoUnit.MONTHS.between(first, YearMonth.of(total.getYear(), total.getMonth()));
+            double amount = total.getTotal().doubleValue();
+            net[index] += total.getType() == TypeTransaction.INCOME ? amount : -amount;
+            earliest = Math.min(earliest, index);
+        }
+
+        return Arrays.copyOfRange(net, Math.min(earliest, historyMonths), historyMonths);
+    }
+
+    private static BigDecimal money(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_EVEN);
+    }
+
+    private Goal findOwnedGoal(Long id) {
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+        Goal goal = goalRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Meta", id));
+
+        if (!goal.getUser().getId().equals(userId)) {
+            throw new UnauthorizedAccessException("Meta", id);
+        }
+        return goal;
+    }
+
+}
@@ -0,0 +1,26 @@
+package finance.services;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import finance.config.AuthenticatedUser;
+import finance.domain.dto.insights.InsightResponseDTO;
+import finance.repository.RepositoryInsight;
+
+@Service
+public class ServiceInsights {
+
+    private final RepositoryInsight insightRepository;
+
+    public ServiceInsights(RepositoryInsight insightRepository) {
+        this.insightRepository = insightRepository;
+    }
+
+    public List<InsightResponseDTO> getLatestInsights() {
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+        return insightRepository.findTop50ByUserIdOrderByCreatedAtDesc(userId).stream()
+                .map(InsightResponseDTO::toDTO)
+                .toList();
+    }
+}
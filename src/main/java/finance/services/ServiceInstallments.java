@@ -0,0 +1,218 @@
+package finance.services;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import finance.config.AuthenticatedUser;
+import finance.domain.acounts.Account;
+import finance.domain.dto.installments.InstallmentCreateDTO;
+import finance.domain.dto.installments.InstallmentResponseDTO;
+import finance.domain.money.Money;
+import finance.domain.transactions.CategoryTransactions;
+import finance.domain.transactions.Transaction;
+import finance.domain.transactions.TransactionsChangedEvent;
+import finance.domain.transactions.TypeTransaction;
+import finance.exceptions.AccountNotFoundException;
+import finance.exceptions.ResourceNotFoundException;
+import finance.exceptions.UnauthorizedAccessException;
+import finance.repository.RepositoryAccount;
+import finance.repository.RepositoryTransactions;
+import finance.repository.RepositoryTransactions.DueInstallment;
+import jakarta.transaction.Transactional;
+
+@Service
+public class ServiceInstallments {
+
+    private final RepositoryAccount accountRepository;
+    private final RepositoryTransactions transactionRepository;
+    private final ServiceCategories serviceCategories;
+    private final CategoryDictionary categoryDictionary;
+    private final ServiceCreditCard serviceCreditCard;
+    private final ServiceBudgets serviceBudgets;
+    private final DataVersionTable dataVersionTable;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ServiceInstallments(RepositoryAccount accountRepository, RepositoryTransactions transactionRepository,
+            ServiceCategories serviceCategories, CategoryDictionary categoryDictionary,
+            ServiceCreditCard serviceCreditCard, ServiceBudgets serviceBudgets, DataVersionTable dataVersionTable,
+            ApplicationEventPublisher eventPublisher) {
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.serviceCategories = serviceCategories;
+        this.categoryDictionary = categoryDictionary;
+        this.serviceCreditCard = serviceCreditCard;
+        this.serviceBudgets = serviceBudgets;
+        this.dataVersionTable = dataVersionTable;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Gera as N parcelas de uma compra em um único insert em lote.
+     * Em conta de crédito a compra inteira consome o limite na hora, como no
+     * cartão: todas as parcelas nascem debitadas e cada uma entra na fatura
+     * do seu vencimento. Nas demais contas, parcelas já vencidas são
+     * debitadas na hora e as futuras ficam com settled = false até o
+     * agendador debitá-las no vencimento.
+     * Cada parcela é datada (created) pelo vencimento, então orçamentos,
+     * relatórios e estatísticas a contam no mês em que ela pesa na fatura.
+     */
+    @Transactional
+    public List<InstallmentResponseDTO> createInstallments(InstallmentCreateDTO data) {
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+        Account account = accountRepository.findForUpdateById(data.accountId())
+                .orElseThrow(() -> new AccountNotFoundException(data.accountId()));
+
+        if (!account.getUser().getId().equals(userId)) {
+            throw new UnauthorizedAccessException("Conta", data.accountId());
+        }
+
+        int total = data.installments();
+        Money totalAmount = Money.of(data.totalAmount());
+        Money base = Money.ofCents(totalAmount.cents() / total);
+        // centavos que sobram da divisão vão para a primeira parcela
+        Money first = totalAmount.minus(base.times(total - 1));
+
+        Long category = data.categoryId() != null
+                ? serviceCategories.requireVisible(userId, data.categoryId())
+                : categoryDictionary.systemId(CategoryTransactions.PARCELAS);
+        String group = UUID.randomUUID().toString();
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Transaction> installments = new ArrayList<>(total);
+        Money dueNow = Money.ZERO;
+
+        for (int number = 1; number <= total; number++) {
+            LocalDate dueDate = data.firstDueDate().plusMonths(number - 1);
+            Money amount = number == 1 ? first : base;
+
+            Transaction installment = new Transaction(
+                    null,
+                    account,
+                    category,
+                    data.name() + " (" + number + "/" + total + ")",
+                    TypeTransaction.EXPENSE,
+                    amount,
+                    dueDate.atStartOfDay(),
+                    now);
+            installment.setInstallmentGroup(group);
+            installment.setInstallmentNumber(number);
+            installment.setInstallmentTotal(total);
+            installment.setDueDate(dueDate);
+            installment.setSettled(account.isCredit() || !dueDate.isAfter(today));
+
+            if (installment.isSettled()) {
+                dueNow = dueNow.plus(amount);
+            }
+            installments.add(installment);
+        }
+
+        if (dueNow.isPositive()) {
+            serviceCreditCard.requireFunds(account, dueNow);
+            accountRepository.addToBalance(account.getId(), dueNow.negate().toBigDecimal());
+        }
+
+        long seq = dataVersionTable.bump(userId);
+        installments.forEach(installment -> installment.setSyncSeq(seq));
+        transactionRepository.insertBatch(installments);
+        serviceCreditCard.recordAll(installments);
+        serviceBudgets.registerExpenses(installments);
+        accountRepository.stampSyncSeq(List.of(account.getId()));
+        eventPublisher.publishEvent(new TransactionsChangedEvent(userId));
+
+        return transactionRepository.findByInstallmentGroupOrderByInstallmentNumber(group).stream()
+                .map(t -> toDTO(userId, t))
+                .toList();
+    }
+
+    // a posse é conferida na própria consulta: a conta das parcelas é LAZY e não é percorrida aqui
+    @Transactional
+    public List<InstallmentResponseDTO> getInstallmentGroup(String group) {
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+        List<Transaction> installments = transactionRepository.findInstallmentGroup(group, userId);
+
+        if (installments.isEmpty()) {
+            throw new ResourceNotFoundException("Parcelamento", group);
+        }
+
+        return installments.stream().map(t -> toDTO(userId, t)).toList();
+    }
+
+    @Transactional
+    public List<InstallmentResponseDTO> getInstallmentsDueIn(YearMonth month) {
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+        return transactionRepository.findInstallmentsDueBetween(userId, month.atDay(1), month.atEndOfMonth()).stream()
+                .map(t -> toDTO(userId, t))
+                .toList();
+    }
+
+    private InstallmentResponseDTO toDTO(Long userId, Transaction t) {
+        return InstallmentResponseDTO.toDTO(t, categoryDictionary.nameOf(userId, t.getCategoryId()));
+    }
+
+    /**
+     * Debita do saldo um lote de parcelas vencidas, com um único delta por conta.
+     * A parcela que não cabe no saldo (ou no limite) continua em aberto e é
+     * tentada de novo na próxima execução; o afterId garante que uma execução
+     * não reivindique a mesma linha duas vezes. Orçamentos não mudam aqui:
+     * a parcela já conta no mês do vencimento desde a compra.
+     */
+    @Transactional
+    public SettlementBatch settleDueBatch(LocalDate today, long afterId, int batchSize) {
+        List<DueInstallment> due = transactionRepository.claimDueInstallments(today, afterId, batchSize);
+        if (due.isEmpty()) {
+            return new SettlementBatch(0, 0, afterId);
+        }
+
+        Map<Long, Account> accounts = accountRepository.findAllForUpdate(due.stream()
+                .map(DueInstallment::getAccountId)
+                .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Account::getId, a -> a));
+
+        // soma em centavos por conta; um único UPDATE de saldo por conta
+        Map<Long, Money> balanceDeltas = new HashMap<>();
+        List<Long> ids = new ArrayList<>(due.size());
+        for (DueInstallment installment : due) {
+            Account account = accounts.get(installment.getAccountId());
+            Money amount = Money.of(installment.getAmount());
+            Money pending = balanceDeltas.getOrDefault(installment.getAccountId(), Money.ZERO);
+            if (account == null || serviceCreditCard.available(account).plus(pending).isLessThan(amount)) {
+                continue;
+            }
+            balanceDeltas.merge(installment.getAccountId(), amount.negate(), Money::plus);
+            ids.add(installment.getId());
+        }
+
+        long lastId = due.get(due.size() - 1).getId();
+        if (ids.isEmpty()) {
+            return new SettlementBatch(due.size(), 0, lastId);
+        }
+
+        transactionRepository.markSettled(ids);
+        balanceDeltas.forEach((accountId, delta) -> accountRepository.addToBalance(accountId, delta.toBigDecimal()));
+        dataVersionTable.bumpAccounts(balanceDeltas.keySet());
+        accountRepository.stampSyncSeq(balanceDeltas.keySet());
+        transactionRepository.stampSyncSeq(ids);
+
+        return new SettlementBatch(due.size(), ids.size(), lastId);
+    }
+
+    /**
+     * @param claimed parcelas vencidas reivindicadas no lote
+     * @param settled parcelas efetivamente debitadas
+     * @param lastId  maior id reivindicado; o próximo lote começa depois dele
+     */
+    public record SettlementBatch(int claimed, int settled, long lastId) {
+    }
+
+}
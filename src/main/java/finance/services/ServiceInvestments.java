@@ -0,0 +1,172 @@
+package finance.services;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import finance.config.AuthenticatedUser;
+import finance.domain.acounts.Account;
+import finance.domain.acounts.AccountType;
+import finance.domain.dto.investments.HoldingCreateDTO;
+import finance.domain.dto.investments.HoldingResponseDTO;
+import finance.domain.dto.investments.ValuationDTO;
+import finance.domain.dto.investments.ValuationHistoryDTO;
+import finance.domain.investments.Holding;
+import finance.domain.investments.PriceSeries;
+import finance.domain.money.Money;
+import finance.exceptions.AccountNotFoundException;
+import finance.exceptions.BusinessException;
+import finance.exceptions.ResourceNotFoundException;
+import finance.exceptions.UnauthorizedAccessException;
+import finance.repository.RepositoryAccount;
+import finance.repository.RepositoryHolding;
+import jakarta.transaction.Transactional;
+
+@Service
+public class ServiceInvestments {
+
+    private static final int MAX_HISTORY_DAYS = 3660;
+
+    private final RepositoryAccount accountRepository;
+    private final RepositoryHolding holdingRepository;
+    private final PriceSeriesStore priceSeriesStore;
+
+    public ServiceInvestments(RepositoryAccount accountRepository, RepositoryHolding holdingRepository,
+            PriceSeriesStore priceSeriesStore) {
+        this.accountRepository = accountRepository;
+        this.holdingRepository = holdingRepository;
+        this.priceSeriesStore = priceSeriesStore;
+    }
+
+    @Transactional
+    public HoldingResponseDTO saveHolding(HoldingCreateDTO data) {
+        Account account = requireInvestmentAccount(data.accountId());
+        String instrument = PriceSeriesStore.normalize(data.instrument());
+
+        Holding holding = holdingRepository.findByAccountIdAndInstrument(account.getId(), instrument)
+                .orElse(null);
+        if (data.quantity().signum() == 0) {
+            if (holding != null) {
+                holdingRepository.delete(holding);
+            }
+            return null;
+        }
+        if (holding == null) {
+            holding = new Holding(account, instrument, data.quantity());
+        } else {
+            holding.setQuantity(data.quantity());
+        }
+        return HoldingResponseDTO.toDTO(holdingRepository.save(holding));
+    }
+
+    public List<HoldingResponseDTO> getHoldings(Long accountId) {
+        requireInvestmentAccount(accountId);
+        return holdingRepository.findByAccountIdOrderByInstrument(accountId).stream()
+                .map(HoldingResponseDTO::toDTO)
+                .toList();
+    }
+
+    @Transactional
+    public void deleteHolding(Long id) {
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+        Holding holding = holdingRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Ativo", id));
+        if (!holding.getAccount().getUser().getId().equals(userId)) {
+            throw new UnauthorizedAccessException("Ativo", id);
+        }
+        holdingRepository.delete(holding);
+    }
+
+    // uma consulta para as posições; os preços vêm do snapshot em memória
+    public ValuationDTO getValuation(Long accountId, LocalDate date) {
+        Account account = requireInvestmentAccount(accountId);
+        LocalDate day = date != null ? date : LocalDate.now();
+        PriceSeries series = priceSeriesStore.series();
+
+        List<ValuationDTO.Position> positions = new ArrayList<>();
+        List<String> unpriced = new ArrayList<>();
+        double total = 0;
+        for (Holding holding : holdingRepository.findByAccountIdOrderByInstrument(accountId)) {
+            int instrument = series.indexOf(holding.getInstrument());
+            double price = instrument >= 0 ? series.close(instrument, day) : Double.NaN;
+            if (Double.isNaN(price)) {
+                unpriced.add(holding.getInstrument());
+                continue;
+            }
+            double value = holding.getQuantity().doubleValue() * price;
+            total += value;
+            positions.add(new ValuationDTO.Position(holding.getInstrument(), holding.getQuantity(), price, toMoney(value)));
+        }
+
+        Money positionsValue = toMoney(total);
+        return new ValuationDTO(
+                accountId,
+                day,
+                account.getCurrency(),
+                account.getBalance(),
+                positionsValue,
+                account.getBalance().plus(positionsValue),
+                positions,
+                unpriced);
+    }
+
+    // carteira resolvida uma vez para índices e quantidades primitivas; cada dia é um laço sobre arrays
+    public ValuationHistoryDTO getValuationHistory(Long accountId, LocalDate from, LocalDate to) {
+        Account account = requireInvestmentAccount(accountId);
+        if (to.isBefore(from)) {
+            throw new BusinessException("Data final anterior à inicial");
+        }
+        if (from.plusDays(MAX_HISTORY_DAYS).isBefore(to)) {
+            throw new BusinessException("Intervalo máximo de " + MAX_HISTORY_DAYS + " dias");
+        }
+        PriceSeries series = priceSeriesStore.series();
+
+        List<Holding> holdings = holdingRepository.findByAccountIdOrderByInstrument(accountId);
+        int[] instruments = new int[holdings.size()];
+        double[] quantities = new double[holdings.size()];
+        int priced = 0;
+        for (Holding holding : holdings) {
+            int instrument = series.indexOf(holding.getInstrument());
+            if (instrument >= 0) {
+                instruments[priced] = instrument;
+                quantities[priced] = holding.getQuantity().doubleValue();
+                priced++;
+            }
+        }
+
+        int start = (int) from.toEpochDay();
+        int end = (int) to.toEpochDay();
+        List<ValuationHistoryDTO.Point> points = new ArrayList<>(end - start + 1);
+        for (int day = start; day <= end; day++) {
+            double value = 0;
+            for (int h = 0; h < priced; h++) {
+                double close = series.close(instruments[h], day);
+                if (!Double.isNaN(close)) {
+                    value += quantities[h] * close;
+                }
+            }
+            points.add(new ValuationHistoryDTO.Point(LocalDate.ofEpochDay(day), toMoney(value)));
+        }
+        return new ValuationHistoryDTO(accountId, account.getCurrency(), from, to, points);
+    }
+
+    private Account requireInvestmentAccount(Long accountId) {
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new AccountNotFoundException(accountId));
+        if (!account.getUser().getId().equals(userId)) {
+            throw new UnauthorizedAccessException("Conta", accountId);
+        }
+        if (account.getType() != AccountType.CONTA_INVESTIMENTO) {
+            throw new BusinessException("Apenas contas de investimento possuem ativos");
+        }
+        return account;
+    }
+
+    private static Money toMoney(double value) {
+        return Money.of(BigDecimal.valueOf(value));
+    }
+}
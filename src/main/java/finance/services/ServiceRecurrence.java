@@ -0,0 +1,210 @@
+package finance.services;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import finance.config.AuthenticatedUser;
+import finance.domain.acounts.Account;
+import finance.domain.dto.recurrence.RecurrenceCreateDTO;
+import finance.domain.dto.recurrence.RecurrenceResponseDTO;
+import finance.domain.money.Money;
+import finance.domain.recurrence.RecurrenceEvent;
+import finance.domain.transactions.Transaction;
+import finance.domain.transactions.TransactionsChangedEvent;
+import finance.domain.transactions.TypeTransaction;
+import finance.exceptions.AccountNotFoundException;
+import finance.exceptions.ResourceNotFoundException;
+import finance.exceptions.UnauthorizedAccessException;
+import finance.repository.RepositoryAccount;
+import finance.repository.RepositoryRecurrence;
+import finance.repository.RepositoryTransactions;
+import jakarta.transaction.Transactional;
+
+@Service
+public class ServiceRecurrence {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceRecurrence.class);
+
+    private final RepositoryRecurrence recurrenceRepository;
+    private final RepositoryAccount accountRepository;
+    private final RepositoryTransactions transactionRepository;
+    private final ServiceCategories serviceCategories;
+    private final CategoryDictionary categoryDictionary;
+    private final ServiceCreditCard serviceCreditCard;
+    private final ServiceBudgets serviceBudgets;
+    private final DataVersionTable dataVersionTable;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxOccurrencesPerEvent;
+
+    public ServiceRecurrence(RepositoryRecurrence recurrenceRepository, RepositoryAccount accountRepository,
+            RepositoryTransactions transactionRepository, ServiceCategories serviceCategories,
+            CategoryDictionary categoryDictionary, ServiceCreditCard serviceCreditCard, ServiceBudgets serviceBudgets,
+            DataVersionTable dataVersionTable, ApplicationEventPublisher eventPublisher,
+            @Value("${finance.recurrence.max-occurrences-per-event:31}") int maxOccurrencesPerEvent) {
+        this.recurrenceRepository = recurrenceRepository;
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.serviceCategories = serviceCategories;
+        this.categoryDictionary = categoryDictionary;
+        this.serviceCreditCard = serviceCreditCard;
+        this.serviceBudgets = serviceBudgets;
+        this.dataVersionTable = dataVersionTable;
+        this.eventPublisher = eventPublisher;
+        this.maxOccurrencesPerEvent = maxOccurrencesPerEvent;
+    }
+
+    @Transactional
+    public RecurrenceResponseDTO createRecurrence(RecurrenceCreateDTO data) {
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+        Account account = accountRepository.findById(data.accountId())
+                .orElseThrow(() -> new AccountNotFoundException(data.accountId()));
+
+        if (!account.getUser().getId().equals(userId)) {
+            throw new UnauthorizedAccessException("Conta", data.accountId());
+        }
+
+        serviceCategories.requireVisible(userId, data.categoryId());
+
+        RecurrenceEvent recurrence = new RecurrenceEvent(
+                account.getUser(),
+                account,
+                data.name(),
+                data.categoryId(),
+                data.type(),
+                data.amount(),
+                data.frequency(),
+                data.firstRun());
+
+        recurrenceRepository.save(recurrence);
+        return RecurrenceResponseDTO.toDTO(recurrence, categoryDictionary.nameOf(userId, recurrence.getCategoryId()));
+    }
+
+    public List<RecurrenceResponseDTO> getAllRecurrences() {
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+        return recurrenceRepository.findByUserIdAndActiveTrueOrderByNextRun(userId).stream()
+                .map(r -> RecurrenceResponseDTO.toDTO(r, categoryDictionary.nameOf(userId, r.getCategoryId())))
+                .toList();
+    }
+
+    @Transactional
+    public void deactivateRecurrence(Long id) {
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+        RecurrenceEvent recurrence = recurrenceRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Recorrência", id));
+
+        if (!recurrence.getUser().getId().equals(userId)) {
+            throw new UnauthorizedAccessException("Recorrência", id);
+        }
+
+        recurrence.setActive(false);
+        recurrenceRepository.save(recurrence);
+    }
+
+    /**
+     * Processa um lote de recorrências vencidas em uma única transação:
+     * reivindica as linhas (SKIP LOCKED), gera as transações em batch,
+     * aplica um único delta de saldo por conta e avança o next_run.
+     * Cada evento gera no máximo maxOccurrencesPerEvent ocorrências por lote,
+     * então a recuperação após downtime acontece em lotes de memória limitada.
+     * Despesas seguem a mesma regra das transações manuais: a ocorrência que
+     * não cabe no saldo (ou no limite, em contas de crédito) não é lançada e
+     * fica registrada em last_skipped_run.
+     *
+     * @return quantidade de recorrências reivindicadas (0 quando não há mais nada vencido)
+     */
+    @Transactional
+    public int processDueBatch(LocalDate today, int batchSize) {
+        List<RecurrenceEvent> due = recurrenceRepository.claimDue(today, batchSize);
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        // saldo lido com lock: a validação não pode usar um valor que outra escrita está alterando
+        Map<Long, Account> accounts = accountRepository.findAllForUpdate(due.stream()
+                .map(r -> r.getAccount().getId())
+                .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Account::getId, a -> a));
+
+        List<Transaction> generated = new ArrayList<>();
+        Map<Long, Money> balanceDeltas = new HashMap<>();
+        Set<Long> users = new HashSet<>();
+        int skipped = 0;
+
+        for (RecurrenceEvent recurrence : due) {
+            Account account = accounts.get(recurrence.getAccount().getId());
+            if (account == null) {
+                // conta excluída entre a reivindicação e o lock
+                recurrence.setActive(false);
+                continue;
+            }
+            users.add(recurrence.getUser().getId());
+            LocalDate run = recurrence.getNextRun();
+            Money amount = Money.of(recurrence.getAmount());
+            boolean expense = recurrence.getType() == TypeTransaction.EXPENSE;
+            Money signed = expense ? amount.negate() : amount;
+            int occurrences = 0;
+
+            while (!run.isAfter(today) && occurrences < maxOccurrencesPerEvent) {
+                Money pending = balanceDeltas.getOrDefault(account.getId(), Money.ZERO);
+                if (expense && serviceCreditCard.available(account).plus(pending).isLessThan(amount)) {
+                    recurrence.setLastSkippedRun(run);
+                    skipped++;
+                } else {
+                    LocalDateTime when = run.atStartOfDay();
+                    Transaction transaction = new Transaction(
+                            null,
+                            account,
+                            recurrence.getCategoryId(),
+                            recurrence.getName(),
+                            recurrence.getType(),
+                            amount,
+                            when,
+                            when);
+                    transaction.setRecurrenceId(recurrence.getId());
+                    generated.add(transaction);
+
+                    balanceDeltas.merge(account.getId(), signed, Money::plus);
+                }
+
+                run = recurrence.getFrequency().next(run);
+                occurrences++;
+            }
+
+            recurrence.setNextRun(run);
+        }
+
+        if (skipped > 0) {
+            logger.warn("Ocorrências de recorrência puladas por saldo ou limite insuficiente: {}", skipped);
+        }
+
+        // versão nova por usuário antes do insert, para as transações já nascerem carimbadas
+        Map<Long, Long> seqs = new HashMap<>();
+        users.forEach(userId -> seqs.put(userId, dataVersionTable.bump(userId)));
+        generated.forEach(t -> t.setSyncSeq(seqs.get(t.getAccount().getUser().getId())));
+
+        transactionRepository.insertBatch(generated);
+        serviceCreditCard.recordAll(generated);
+        serviceBudgets.registerExpenses(generated);
+        balanceDeltas.forEach((accountId, delta) -> accountRepository.addToBalance(accountId, delta.toBigDecimal()));
+        if (!balanceDeltas.isEmpty()) {
+            accountRepository.stampSyncSeq(balanceDeltas.keySet());
+        }
+        users.forEach(userId -> eventPublisher.publishEvent(new TransactionsChangedEvent(userId)));
+
+        return due.size();
+    }
+
+}
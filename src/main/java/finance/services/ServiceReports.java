@@ -0,0 +1,100 @@
+package finance.services;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import finance.domain.dto.reports.MonthlyReportDTO;
+import finance.domain.transactions.TypeTransaction;
+import finance.exceptions.BusinessException;
+
+/**
+ * Relatórios pesados. Rodam nas threads e no pool de conexões do
+ * ReportBulkhead, via JDBC com timeout; nunca no pool do CRUD.
+ */
+@Service
+public class ServiceReports {
+
+    private static final int MAX_RANGE_DAYS = 3660;
+
+    private static final String EXPORT_SQL = """
+            SELECT t.id, t.created, a.name, a.currency, t.category_id, t.name, t.type, t.amount
+            FROM transactions t JOIN accounts a ON a.id = t.account_id
+            WHERE a.user_id = ? AND a.deleted_at IS NULL AND t.created >= ? AND t.created < ?
+            ORDER BY t.created, t.id
+            """;
+
+    private static final String MONTHLY_SQL = """
+            SELECT DATE_FORMAT(t.created, '%Y-%m') AS month, a.currency, t.category_id, t.type,
+                COUNT(*), SUM(t.amount)
+            FROM transactions t JOIN accounts a ON a.id = t.account_id
+            WHERE a.user_id = ? AND a.deleted_at IS NULL AND t.created >= ? AND t.created < ?
+            GROUP BY month, a.currency, t.category_id, t.type
+            ORDER BY month, a.currency, t.category_id, t.type
+            """;
+
+    private final ReportBulkhead bulkhead;
+    private final CategoryDictionary categoryDictionary;
+
+    public ServiceReports(ReportBulkhead bulkhead, CategoryDictionary categoryDictionary) {
+        this.bulkhead = bulkhead;
+        this.categoryDictionary = categoryDictionary;
+    }
+
+    public String exportTransactionsCsv(Long userId, LocalDate from, LocalDate to) {
+        requireRange(from, to);
+        StringBuilder csv = new StringBuilder("id,data,conta,moeda,categoria,descricao,tipo,valor\n");
+        int[] count = { 0 };
+        bulkhead.jdbc().query(EXPORT_SQL, rs -> {
+            bulkhead.requireWithinLimit(++count[0]);
+            csv.append(rs.getLong(1)).append(',')
+                    .append(rs.getTimestamp(2).toLocalDateTime()).append(',')
+                    .append(escape(rs.getString(3))).append(',')
+                    .append(rs.getString(4)).append(',')
+                    .append(escape(categoryDictionary.nameOf(userId, (Long) rs.getObject(5, Long.class)))).append(',')
+                    .append(escape(rs.getString(6))).append(',')
+                    .append(rs.getString(7)).append(',')
+                    .append(rs.getBigDecimal(8).toPlainString()).append('\n');
+        }, userId, Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+        return csv.toString();
+    }
+
+    public MonthlyReportDTO monthly(Long userId, LocalDate from, LocalDate to) {
+        requireRange(from, to);
+        List<MonthlyReportDTO.Row> rows = bulkhead.jdbc().query(MONTHLY_SQL, (rs, i) -> {
+            Long categoryId = rs.getObject(3, Long.class);
+            return new MonthlyReportDTO.Row(
+                    YearMonth.parse(rs.getString(1)),
+                    rs.getString(2),
+                    categoryId,
+                    categoryDictionary.nameOf(userId, categoryId),
+                    TypeTransaction.valueOf(rs.getString(4)),
+                    rs.getLong(5),
+                    rs.getBigDecimal(6));
+        }, userId, Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+        bulkhead.requireWithinLimit(rows.size());
+        return new MonthlyReportDTO(from, to, rows);
+    }
+
+    private static void requireRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new BusinessException("Data final anterior à inicial");
+        }
+        if (from.plusDays(MAX_RANGE_DAYS).isBefore(to)) {
+            throw new BusinessException("Intervalo máximo de " + MAX_RANGE_DAYS + " dias");
+        }
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,91 @@
+package finance.services;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import finance.config.AuthenticatedUser;
+import finance.domain.dto.accounts.AccountResponseDTO;
+import finance.domain.dto.sync.SyncResponseDTO;
+import finance.domain.dto.transactions.TransactionResponseDTO;
+import finance.exceptions.BusinessException;
+import finance.repository.RepositoryAccount;
+import finance.repository.RepositorySyncTombstone;
+import finance.repository.RepositoryTransactions;
+import finance.repository.RepositoryUser;
+import jakarta.transaction.Transactional;
+
+/**
+ * Sincronização incremental para clientes offline. O token é a data_version
+ * do usuário: toda escrita em contas/transações incrementa a versão e carimba
+ * as linhas alteradas com ela (sync_seq); exclusões deixam uma lápide com a
+ * mesma sequência. Cada sync lê só as faixas (since, versão atual] dos índices
+ * (user_id, sync_seq) e (account_id, sync_seq).
+ */
+@Service
+public class ServiceSync {
+
+    private final RepositoryUser userRepository;
+    private final RepositoryAccount accountRepository;
+    private final RepositoryTransactions transactionRepository;
+    private final RepositorySyncTombstone tombstoneRepository;
+    private final CategoryDictionary categoryDictionary;
+
+    public ServiceSync(RepositoryUser userRepository, RepositoryAccount accountRepository,
+            RepositoryTransactions transactionRepository, RepositorySyncTombstone tombstoneRepository,
+            CategoryDictionary categoryDictionary) {
+        this.userRepository = userRepository;
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.categoryDictionary = categoryDictionary;
+    }
+
+    // uma transação só: versão e linhas vêm do mesmo snapshot
+    @Transactional
+    public SyncResponseDTO changesSince(String token) {
+        Long userId = AuthenticatedUser.getAuthenticatedUserId();
+        long upTo = userRepository.findDataVersion(userId).orElse(0L);
+        long since = parseToken(token);
+
+        // token vazio ou de outra linha do tempo (maior que a versão atual): estado completo
+        boolean full = since < 0 || since > upTo;
+        long from = full ? -1 : since;
+
+        List<AccountResponseDTO> accounts = accountRepository.findChangedSince(userId, from, upTo).stream()
+                .map(AccountResponseDTO::toDTO)
+                .toList();
+
+        List<Long> accountIds = accountRepository.findIdsByUserId(userId);
+        List<TransactionResponseDTO> transactions = accountIds.isEmpty()
+                ? List.of()
+                : transactionRepository.findChangedSince(accountIds, from, upTo).stream()
+                        .map(t -> TransactionResponseDTO.toDTO(t, categoryDictionary.nameOf(userId, t.getCategoryId())))
+                        .toList();
+
+        // no estado completo o cliente descarta o que tem; lápides não interessam
+        List<SyncResponseDTO.Deleted> deleted = full
+                ? List.of()
+                : tombstoneRepository.findByUserIdAndSeqGreaterThanAndSeqLessThanEqualOrderBySeq(userId, since, upTo)
+                        .stream()
+                        .map(SyncResponseDTO.Deleted::toDTO)
+                        .toList();
+
+        return new SyncResponseDTO(Long.toString(upTo), full, accounts, transactions, deleted);
+    }
+
+    private static long parseToken(String token) {
+        if (token == null || token.isBlank()) {
+            return -1;
+        }
+        try {
+            long since = Long.parseLong(token.trim());
+            if (since < 0) {
+                throw new NumberFormatException();
+            }
+            return since;
+        } catch (NumberFormatException e) {
+            throw new BusinessException("Token de sincronização inválido");
+        }
+    }
+}
@@ -1,34 +1,61 @@
 package finance.services;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import finance.config.AuthenticatedUser;
 import finance.domain.acounts.Account;
 import finance.domain.dto.transactions.TransactionCreateDTO;
 import finance.domain.dto.transactions.TransactionResponseDTO;
 import finance.domain.dto.transactions.TransactionUpdateDTO;
+import finance.domain.money.Money;
+import finance.domain.sync.SyncEntityType;
+import finance.domain.sync.SyncTombstone;
 import finance.domain.transactions.Transaction;
+import finance.domain.transactions.TransactionsChangedEvent;
 import finance.domain.transactions.TypeTransaction;
 import finance.exceptions.AccountNotFoundException;
-import finance.exceptions.InsufficientBalanceException;
+import finance.exceptions.BusinessException;
 import finance.exceptions.ResourceNotFoundException;
 import finance.exceptions.UnauthorizedAccessException;
 import finance.repository.RepositoryAccount;
+import finance.repository.RepositorySyncTombstone;
 import finance.repository.RepositoryTransactions;
-import jakarta.transaction.Transactional;
+import finance.services.DataVersionTable.Versioned;
 
 @Service
 public class ServiceTransactions {
 
     private final RepositoryAccount accountRepository;
     private final RepositoryTransactions transactionRepository;
-
-    public ServiceTransactions(RepositoryAccount accountRepository, RepositoryTransactions transactionRepository) {
+    private final ServiceBudgets serviceBudgets;
+    private final ServiceCategories serviceCategories;
+    private final CategoryDictionary categoryDictionary;
+    private final ServiceCreditCard serviceCreditCard;
+    private final DataVersionTable dataVersionTable;
+    private final RepositorySyncTombstone tombstoneRepository;
+    private final ReadCoalescer readCoalescer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ServiceTransactions(RepositoryAccount accountRepository, RepositoryTransactions transactionRepository,
+            ServiceBudgets serviceBudgets, ServiceCategories serviceCategories, CategoryDictionary categoryDictionary,
+            ServiceCreditCard serviceCreditCard, DataVersionTable dataVersionTable,
+            RepositorySyncTombstone tombstoneRepository, ReadCoalescer readCoalescer,
+            ApplicationEventPublisher eventPublisher) {
         this.accountRepository = accountRepository;
         this.transactionRepository = transactionRepository;
+        this.serviceBudgets = serviceBudgets;
+        this.serviceCategories = serviceCategories;
+        this.categoryDictionary = categoryDictionary;
+        this.serviceCreditCard = serviceCreditCard;
+        this.dataVersionTable = dataVersionTable;
+        this.tombstoneRepository = tombstoneRepository;
+        this.readCoalescer = readCoalescer;
+        this.eventPublisher = eventPublisher;
     }
 
 
@@ -37,49 +64,54 @@ public class ServiceTransactions {
 
       Long userAuthLong = AuthenticatedUser.getAuthenticatedUserId();
 
-        Account account = accountRepository.findById(data.accountId())
+        // saldo travado até o commit: a validação e o novo saldo partem do valor atual do banco
+        Account account = accountRepository.findForUpdateById(data.accountId())
                 .orElseThrow(() -> new AccountNotFoundException(data.accountId()));
 
         if(!account.getUser().getId().equals(userAuthLong)){
             throw new RuntimeException("Você não tem permissão para essa conta");
         }
 
+        serviceCategories.requireVisible(userAuthLong, data.categoryId());
+
+
+        Money amount = Money.of(data.amount());
 
         if (data.type().equals(TypeTransaction.EXPENSE)) {
-            // Valida saldo suficiente antes de debitar
-            if (account.getBalance().compareTo(data.amount()) < 0) {
-                throw new InsufficientBalanceException(
-                        account.getBalance(),
-                        data.amount());
-            }
-            account.setBalance(account.getBalance().subtract(data.amount()));
+            // Valida saldo (ou limite, em contas de crédito) antes de debitar
+            serviceCreditCard.requireFunds(account, amount);
+            account.setBalance(account.getBalance().minus(amount));
             accountRepository.save(account);
         }
 
         if (data.type().equals(TypeTransaction.INCOME)) {
-            account.setBalance(account.getBalance().add(data.amount()));
+            account.setBalance(account.getBalance().plus(amount));
             accountRepository.save(account);
         }
 
         Transaction transaction = new Transaction(
                 account,
-                data.category(),
+                data.categoryId(),
                 data.name(),
                 data.type(),
-                data.amount());
+                amount);
 
         transaction = transactionRepository.save(transaction);
+        serviceCreditCard.record(transaction, 1);
+
+        if (transaction.getType() == TypeTransaction.EXPENSE) {
+            serviceBudgets.registerExpense(userAuthLong, transaction.getCategoryId(), transaction.getCreated(),
+                    transaction.getAmount());
+        }
+        long seq = dataVersionTable.bump(userAuthLong);
+        transaction.setSyncSeq(seq);
+        account.setSyncSeq(seq);
+        eventPublisher.publishEvent(new TransactionsChangedEvent(userAuthLong));
 
-        return new TransactionResponseDTO(
-                transaction.getId(),
-                account.getId(),
-                transaction.getCategory(),
-                transaction.getName(),
-                transaction.getAmount(),
-                transaction.getCreated(),
-                transaction.getUpdated());
+        return toDTO(userAuthLong, transaction);
     }
 
+    @Transactional(readOnly = true)
     public TransactionResponseDTO getTransactionById(Long id) {
         Long userId = AuthenticatedUser.getAuthenticatedUserId();
         Transaction transaction = transactionRepository.findById(id)
@@ -90,36 +122,23 @@ public class ServiceTransactions {
             throw new UnauthorizedAccessException("Transação", id);
         }
 
-        return new TransactionResponseDTO(
-                transaction.getId(),
-                transaction.getAccount().getId(),
-                transaction.getCategory(),
-                transaction.getName(),
-                transaction.getAmount(),
-                transaction.getCreated(),
-                transaction.getUpdated()
-        );
+        return toDTO(userId, transaction);
     }
 
-    public List<TransactionResponseDTO> getAllTransactions() {
+    // a versão sai da mesma transação (e da mesma réplica) que as transações: é a base do ETag da listagem
+    @Transactional(readOnly = true)
+    public Versioned<List<TransactionResponseDTO>> getAllTransactions() {
         Long userId = AuthenticatedUser.getAuthenticatedUserId();
-        List<Account> userAccounts = accountRepository.findByUserId(userId);
-
-        return userAccounts.stream()
-                .flatMap(account -> transactionRepository.findByAccountIdOrderByCreatedDesc(account.getId()).stream())
-                .map(t -> new TransactionResponseDTO(
-                        t.getId(),
-                        t.getAccount().getId(),
-                        t.getCategory(),
-                        t.getName(),
-                        t.getAmount(),
-                        t.getCreated(),
-                        t.getUpdated()
-                ))
-                .collect(Collectors.toList());
+        return readCoalescer.execute(userId, "transactions", () -> dataVersionTable.read(userId,
+                () -> accountRepository.findByUserId(userId).stream()
+                        .flatMap(account -> transactionRepository.findByAccountIdOrderByCreatedDesc(account.getId())
+                                .stream())
+                        .map(t -> toDTO(userId, t))
+                        .toList()));
     }
 
-    public List<TransactionResponseDTO> getTransactionsByAccountId(Long accountId) {
+    @Transactional(readOnly = true)
+    public Versioned<List<TransactionResponseDTO>> getTransactionsByAccountId(Long accountId) {
         Long userId = AuthenticatedUser.getAuthenticatedUserId();
         Account account = accountRepository.findById(accountId)
                 .orElseThrow(() -> new AccountNotFoundException(accountId));
@@ -128,17 +147,12 @@ public class ServiceTransactions {
             throw new UnauthorizedAccessException("Conta", accountId);
         }
 
-        return transactionRepository.findByAccountIdOrderByCreatedDesc(accountId).stream()
-                .map(t -> new TransactionResponseDTO(
-                        t.getId(),
-                        t.getAccount().getId(),
-                        t.getCategory(),
-                        t.getName(),
-                        t.getAmount(),
-                        t.getCreated(),
-                        t.getUpdated()
-                ))
-                .collect(Collectors.toList());
+        return readCoalescer.execute(userId, "transactionsByAccount",
+                () -> dataVersionTable.read(userId,
+                        () -> transactionRepository.findByAccountIdOrderByCreatedDesc(accountId).stream()
+                                .map(t -> toDTO(userId, t))
+                                .toList()),
+                accountId);
     }
 
     @Transactional
@@ -146,48 +160,65 @@ public class ServiceTransactions {
         Long userId = AuthenticatedUser.getAuthenticatedUserId();
         Transaction transaction = transactionRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Transação", id));
+        Account account = lockAccount(transaction);
 
-        if (!transaction.getAccount().getUser().getId().equals(userId)) {
+        if (!account.getUser().getId().equals(userId)) {
             throw new UnauthorizedAccessException("Transação", id);
         }
 
-        Account account = transaction.getAccount();
+        // a liquidação debita toda parcela como despesa
+        if (transaction.getInstallmentGroup() != null && data.type() != null
+                && data.type() != transaction.getType()) {
+            throw new BusinessException("O tipo de uma parcela não pode ser alterado");
+        }
+
+        // parcela futura ainda não debitada: o saldo só muda na liquidação, já com o novo valor
+        boolean settled = transaction.isSettled();
+
+        // Snapshot used to move the expense between budgets
+        Money oldBudgetAmount = budgetAmount(transaction);
+        Long oldCategory = transaction.getCategoryId();
+        serviceCreditCard.record(transaction, -1);
 
         // Revert old transaction effect
-        if (transaction.getType() == TypeTransaction.EXPENSE) {
-            account.setBalance(account.getBalance().add(transaction.getAmount()));
-        } else if (transaction.getType() == TypeTransaction.INCOME) {
-            account.setBalance(account.getBalance().subtract(transaction.getAmount()));
+        if (settled) {
+            revertBalance(account, transaction);
         }
 
         // Update transaction fields
         if (data.name() != null) transaction.setName(data.name());
-        if (data.category() != null) transaction.setCategory(data.category());
+        if (data.categoryId() != null) transaction.setCategoryId(serviceCategories.requireVisible(userId, data.categoryId()));
         if (data.type() != null) transaction.setType(data.type());
-        if (data.amount() != null) transaction.setAmount(data.amount());
+        if (data.amount() != null) transaction.setAmount(Money.of(data.amount()));
 
         // Apply new transaction effect
-        if (transaction.getType() == TypeTransaction.EXPENSE) {
-            if (account.getBalance().compareTo(transaction.getAmount()) < 0) {
-                throw new InsufficientBalanceException(account.getBalance(), transaction.getAmount());
-            }
-            account.setBalance(account.getBalance().subtract(transaction.getAmount()));
-        } else if (transaction.getType() == TypeTransaction.INCOME) {
-            account.setBalance(account.getBalance().add(transaction.getAmount()));
+        if (settled && transaction.getType() == TypeTransaction.EXPENSE) {
+            serviceCreditCard.requireFunds(account, transaction.getAmount());
+            account.setBalance(account.getBalance().minus(transaction.getAmount()));
+        } else if (settled && transaction.getType() == TypeTransaction.INCOME) {
+            account.setBalance(account.getBalance().plus(transaction.getAmount()));
         }
 
         accountRepository.save(account);
         Transaction updated = transactionRepository.save(transaction);
+        serviceCreditCard.record(updated, 1);
+
+        Money newBudgetAmount = budgetAmount(updated);
+        if (Objects.equals(oldCategory, updated.getCategoryId())) {
+            serviceBudgets.registerExpense(userId, oldCategory, updated.getCreated(),
+                    newBudgetAmount.minus(oldBudgetAmount));
+        } else {
+            serviceBudgets.registerExpense(userId, oldCategory, updated.getCreated(),
+                    oldBudgetAmount.negate());
+            serviceBudgets.registerExpense(userId, updated.getCategoryId(), updated.getCreated(),
+                    newBudgetAmount);
+        }
+        long seq = dataVersionTable.bump(userId);
+        updated.setSyncSeq(seq);
+        account.setSyncSeq(seq);
+        eventPublisher.publishEvent(new TransactionsChangedEvent(userId));
 
-        return new TransactionResponseDTO(
-                updated.getId(),
-                updated.getAccount().getId(),
-                updated.getCategory(),
-                updated.getName(),
-                updated.getAmount(),
-                updated.getCreated(),
-                updated.getUpdated()
-        );
+        return toDTO(userId, updated);
     }
 
     @Transactional
@@ -195,21 +226,53 @@ public class ServiceTransactions {
         Long userId = AuthenticatedUser.getAuthenticatedUserId();
         Transaction transaction = transactionRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Transação", id));
+        Account account = lockAccount(transaction);
 
-        if (!transaction.getAccount().getUser().getId().equals(userId)) {
+        if (!account.getUser().getId().equals(userId)) {
             throw new UnauthorizedAccessException("Transação", id);
         }
 
-        // Revert transaction effect on account balance
-        Account account = transaction.getAccount();
-        if (transaction.getType() == TypeTransaction.EXPENSE) {
-            account.setBalance(account.getBalance().add(transaction.getAmount()));
-        } else if (transaction.getType() == TypeTransaction.INCOME) {
-            account.setBalance(account.getBalance().subtract(transaction.getAmount()));
+        // Revert transaction effect on account balance (parcelas futuras ainda não foram debitadas)
+        if (transaction.isSettled()) {
+            revertBalance(account, transaction);
         }
 
         accountRepository.save(account);
         transactionRepository.delete(transaction);
+        serviceCreditCard.record(transaction, -1);
+
+        serviceBudgets.registerExpense(userId, transaction.getCategoryId(), transaction.getCreated(),
+                budgetAmount(transaction).negate());
+        long seq = dataVersionTable.bump(userId);
+        account.setSyncSeq(seq);
+        tombstoneRepository.save(new SyncTombstone(userId, seq, SyncEntityType.TRANSACTION, transaction.getId()));
+        eventPublisher.publishEvent(new TransactionsChangedEvent(userId));
+    }
+
+    // trava pela id do proxy, antes de qualquer leitura da conta: uma leitura sem lock
+    // deixaria no contexto um saldo que o SELECT ... FOR UPDATE não atualiza
+    private Account lockAccount(Transaction transaction) {
+        Long accountId = transaction.getAccount().getId();
+        return accountRepository.findForUpdateById(accountId)
+                .orElseThrow(() -> new AccountNotFoundException(accountId));
+    }
+
+    private static void revertBalance(Account account, Transaction transaction) {
+        if (transaction.getType() == TypeTransaction.EXPENSE) {
+            account.setBalance(account.getBalance().plus(transaction.getAmount()));
+        } else if (transaction.getType() == TypeTransaction.INCOME) {
+            account.setBalance(account.getBalance().minus(transaction.getAmount()));
+        }
+    }
+
+    // o nome da categoria vem do dicionário em memória, sem join com categories
+    private TransactionResponseDTO toDTO(Long userId, Transaction t) {
+        return TransactionResponseDTO.toDTO(t, categoryDictionary.nameOf(userId, t.getCategoryId()));
+    }
+
+    // valor que a transação consome de orçamento (apenas despesas contam)
+    private static Money budgetAmount(Transaction transaction) {
+        return transaction.getType() == TypeTransaction.EXPENSE ? transaction.getAmount() : Money.ZERO;
     }
 
 }
\ No newline at end of file
@@ -1,3 +0,0 @@
-
-
-DROP TABLE TRANSACTION_ATTACHMENTS;
\ No newline at end of file
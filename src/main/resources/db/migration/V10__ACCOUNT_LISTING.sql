@@ -0,0 +1,5 @@
+/* ========================================
+   LISTAGEM ADMIN: índices para keyset e filtros
+======================================== */
+CREATE INDEX idx_accounts_type ON accounts(type, id);
+CREATE INDEX idx_accounts_created ON accounts(created);
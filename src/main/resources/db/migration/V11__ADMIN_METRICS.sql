@@ -0,0 +1,27 @@
+/* ========================================
+   MÉTRICAS ADMIN: agregados mantidos pelo AdminMetricsJob
+======================================== */
+CREATE TABLE IF NOT EXISTS metrics_daily_transactions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    day DATE NOT NULL,
+    category_id BIGINT NOT NULL,
+    type VARCHAR(10) NOT NULL,
+    tx_count BIGINT NOT NULL,
+    total_amount DECIMAL(19,2) NOT NULL,
+    CONSTRAINT uk_metrics_daily UNIQUE (day, category_id, type)
+);
+
+CREATE TABLE IF NOT EXISTS metrics_account_types (
+    type VARCHAR(30) PRIMARY KEY,
+    account_count BIGINT NOT NULL,
+    total_balance DECIMAL(19,2) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS metrics_state (
+    id BIGINT PRIMARY KEY,
+    users_count BIGINT NOT NULL,
+    last_transaction_id BIGINT NOT NULL,
+    refreshed_at TIMESTAMP NULL
+);
+
+INSERT IGNORE INTO metrics_state (id, users_count, last_transaction_id) VALUES (1, 0, 0);
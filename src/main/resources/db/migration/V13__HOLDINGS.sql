@@ -0,0 +1,12 @@
+/* ========================================
+   INVESTIMENTOS: posições por conta
+======================================== */
+CREATE TABLE IF NOT EXISTS holdings (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    account_id BIGINT NOT NULL,
+    instrument VARCHAR(20) NOT NULL,
+    quantity DECIMAL(19,6) NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_holdings_account_instrument UNIQUE (account_id, instrument),
+    CONSTRAINT fk_holdings_account FOREIGN KEY (account_id) REFERENCES accounts(id) ON DELETE CASCADE
+);
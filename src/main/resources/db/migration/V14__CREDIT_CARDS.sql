@@ -0,0 +1,21 @@
+/* ========================================
+   CARTÕES DE CRÉDITO: limite, ciclo e faturas
+======================================== */
+ALTER TABLE accounts
+    ADD COLUMN credit_limit DECIMAL(19,2) NULL,
+    ADD COLUMN closing_day INT NULL,
+    ADD COLUMN due_day INT NULL;
+
+CREATE TABLE IF NOT EXISTS credit_statements (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    account_id BIGINT NOT NULL,
+    cycle_start DATE NOT NULL,
+    closing_date DATE NOT NULL,
+    due_date DATE NOT NULL,
+    charges DECIMAL(19,2) NOT NULL DEFAULT 0,
+    payments DECIMAL(19,2) NOT NULL DEFAULT 0,
+    transaction_count INT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_credit_statements_account_closing UNIQUE (account_id, closing_date),
+    CONSTRAINT fk_credit_statements_account FOREIGN KEY (account_id) REFERENCES accounts(id) ON DELETE CASCADE
+);
@@ -0,0 +1,5 @@
+/* ========================================
+   VERSÃO DOS DADOS POR USUÁRIO (ETag)
+======================================== */
+ALTER TABLE users
+    ADD COLUMN data_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,21 @@
+/* ========================================
+   SINCRONIZAÇÃO INCREMENTAL: sequência por linha e lápides
+======================================== */
+ALTER TABLE accounts
+    ADD COLUMN sync_seq BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE transactions
+    ADD COLUMN sync_seq BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_accounts_user_sync ON accounts (user_id, sync_seq);
+CREATE INDEX idx_transactions_account_sync ON transactions (account_id, sync_seq);
+
+CREATE TABLE IF NOT EXISTS sync_tombstones (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    seq BIGINT NOT NULL,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_sync_tombstones_user_seq (user_id, seq)
+);
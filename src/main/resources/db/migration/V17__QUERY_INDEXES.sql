@@ -0,0 +1,34 @@
+/* ========================================
+   ÍNDICES GUIADOS PELAS CONSULTAS
+   Bancos criados pelo ddl-auto chegam aqui por V3..V16 depois do baseline
+   em 2 (afterBaseline__LEGACY_SCHEMA.sql), com os mesmos índices dos novos.
+======================================== */
+
+/* o cadastro antigo não checava username repetido: o de menor id fica com o
+   login e os demais ganham o sufixo "#dup-<id>", mantendo contas e
+   transações para conciliação manual */
+UPDATE users u
+JOIN users k ON k.username = u.username AND k.id < u.id
+SET u.username = CONCAT(LEFT(u.username, 80), '#dup-', u.id);
+
+/* login: RepositoryUser.findByUsername */
+CREATE UNIQUE INDEX uk_users_username ON users(username);
+
+/* AdminMetricsJob.REBUILD_SQL: janela por data, sem filtro de conta */
+CREATE INDEX idx_transactions_created ON transactions(created);
+
+/* RepositoryBudget.findByUserIdAndYearAndMonthOrderByCategoryId */
+CREATE INDEX idx_budgets_user_period ON budgets(user_id, year, month, category_id);
+
+/* RepositoryGoal.findByUserIdOrderByDeadline: o novo índice cobre a FK de user_id */
+ALTER TABLE goals
+    DROP INDEX idx_goals_user,
+    ADD INDEX idx_goals_user_deadline (user_id, deadline);
+
+/* RepositoryRecurrence.findByUserIdAndActiveTrueOrderByNextRun */
+ALTER TABLE recurrence_events
+    DROP INDEX idx_recurrence_user,
+    ADD INDEX idx_recurrence_user_active (user_id, active, next_run);
+
+/* histórico antigo: só tinha o baseline 0 gravado enquanto os scripts não eram encontrados */
+DROP TABLE IF EXISTS flyway_schema_history;
@@ -0,0 +1,5 @@
+/* ========================================
+   RECURRENCE EVENTS: ocorrências puladas por falta de saldo ou limite
+======================================== */
+ALTER TABLE recurrence_events
+    ADD COLUMN last_skipped_run DATE NULL;
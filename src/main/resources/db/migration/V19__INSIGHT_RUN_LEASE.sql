@@ -0,0 +1,15 @@
+/* ========================================
+   INSIGHT JOB RUNS: uma execução por mês de referência, com lease entre nós
+======================================== */
+/* execuções diárias anteriores criavam uma linha por dia; mantém só a mais recente de cada mês */
+DELETE i FROM insights i
+    JOIN insight_job_runs r ON r.id = i.run_id
+    JOIN insight_job_runs n ON n.reference_month = r.reference_month AND n.id > r.id;
+
+DELETE r FROM insight_job_runs r
+    JOIN insight_job_runs n ON n.reference_month = r.reference_month AND n.id > r.id;
+
+ALTER TABLE insight_job_runs
+    ADD COLUMN owner VARCHAR(36) NULL,
+    ADD COLUMN lease_until TIMESTAMP NULL,
+    ADD UNIQUE INDEX uk_insight_runs_month (reference_month);
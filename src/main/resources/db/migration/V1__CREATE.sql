@@ -4,7 +4,7 @@
 CREATE TABLE IF NOT EXISTS users (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     name VARCHAR(50) NOT NULL,
-    username VARCHAR(100) UNIQUE NOT NULL,
+    username VARCHAR(100) NOT NULL,
     password VARCHAR(100) NOT NULL,
     role VARCHAR(10) NOT NULL DEFAULT 'USER',
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
@@ -27,9 +27,9 @@ CREATE TABLE IF NOT EXISTS accounts (
     user_id BIGINT NOT NULL,
     bank_id BIGINT NULL,
     name VARCHAR(120) NOT NULL,
-    type VARCHAR(30) NOT NULL DEFAULT 'corrente',
-    balance DECIMAL(10,2) NOT NULL DEFAULT 0.00,
-    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    type VARCHAR(30) NULL,
+    balance DECIMAL(19,2) NOT NULL DEFAULT 0.00,
+    created TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
 
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
     FOREIGN KEY (bank_id) REFERENCES banks(id) ON DELETE SET NULL
@@ -63,8 +63,8 @@ CREATE TABLE IF NOT EXISTS transactions (
     category_id BIGINT NULL,
 
     name VARCHAR(80) NULL,
-    type ENUM('income','expense','transfer') NOT NULL,
-    amount DECIMAL(10,2) NOT NULL,
+    type VARCHAR(10) NOT NULL,
+    amount DECIMAL(19,2) NOT NULL,
 
     /* Parcelamentos */
     installment_group VARCHAR(40) NULL,
@@ -74,8 +74,8 @@ CREATE TABLE IF NOT EXISTS transactions (
     /* Recorrência */
     recurrence_id BIGINT NULL,
 
-    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    created TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated TIMESTAMP NULL,
 
     FOREIGN KEY (account_id) REFERENCES accounts(id) ON DELETE CASCADE,
     FOREIGN KEY (category_id) REFERENCES categories(id) ON DELETE SET NULL
@@ -83,6 +83,7 @@ CREATE TABLE IF NOT EXISTS transactions (
 
 CREATE INDEX idx_transactions_account ON transactions(account_id);
 CREATE INDEX idx_transactions_category ON transactions(category_id);
+CREATE INDEX idx_transactions_account_created ON transactions(account_id, created);
 
 /* ========================================
    6. RECURRENCE EVENTS
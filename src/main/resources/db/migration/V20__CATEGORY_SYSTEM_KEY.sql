@@ -0,0 +1,36 @@
+/* ========================================
+   CATEGORIES: categorias padrão únicas por nome
+======================================== */
+/* nós que semearam ao mesmo tempo podem ter duplicado categorias padrão; as referências
+   passam para a de menor id antes de remover as cópias */
+UPDATE transactions t
+JOIN categories d ON d.id = t.category_id
+JOIN (SELECT name, MIN(id) AS keep_id FROM categories WHERE user_id IS NULL GROUP BY name) k ON k.name = d.name
+SET t.category_id = k.keep_id
+WHERE d.user_id IS NULL AND d.id <> k.keep_id;
+
+UPDATE recurrence_events r
+JOIN categories d ON d.id = r.category_id
+JOIN (SELECT name, MIN(id) AS keep_id FROM categories WHERE user_id IS NULL GROUP BY name) k ON k.name = d.name
+SET r.category_id = k.keep_id
+WHERE d.user_id IS NULL AND d.id <> k.keep_id;
+
+/* orçamento que colidiria com o da categoria mantida é descartado junto com a cópia */
+UPDATE IGNORE budgets b
+JOIN categories d ON d.id = b.category_id
+JOIN (SELECT name, MIN(id) AS keep_id FROM categories WHERE user_id IS NULL GROUP BY name) k ON k.name = d.name
+SET b.category_id = k.keep_id
+WHERE d.user_id IS NULL AND d.id <> k.keep_id;
+
+DELETE d FROM categories d
+    JOIN categories k ON k.user_id IS NULL AND k.name = d.name AND k.id < d.id
+WHERE d.user_id IS NULL;
+
+/* NULL não conflita em índice único: system_name só tem valor nas categorias padrão.
+   Não é coluna gerada porque o MySQL não aceita expressão gerada sobre user_id, que tem
+   FK com ON DELETE SET NULL; o seeder (ServiceCategories.run) preenche a coluna */
+ALTER TABLE categories
+    ADD COLUMN system_name VARCHAR(50) NULL,
+    ADD UNIQUE INDEX uk_categories_system (system_name);
+
+UPDATE categories SET system_name = name WHERE user_id IS NULL;
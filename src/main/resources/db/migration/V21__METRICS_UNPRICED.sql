@@ -0,0 +1,6 @@
+/* ========================================
+   MÉTRICAS ADMIN: contas sem cotação ficam fora do saldo total e são reportadas
+======================================== */
+ALTER TABLE metrics_state
+    ADD COLUMN unpriced_accounts BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN unpriced_currencies VARCHAR(255) NULL;
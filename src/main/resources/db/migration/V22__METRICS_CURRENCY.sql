@@ -0,0 +1,14 @@
+/* ========================================
+   MÉTRICAS ADMIN: volume diário separado pela moeda da conta
+   Somar amount de contas em moedas diferentes misturava BRL, USD etc.
+   Os agregados antigos não têm como ser separados: são apagados e a marca
+   d'água volta a zero, então o AdminMetricsJob reagrega tudo por moeda.
+======================================== */
+ALTER TABLE metrics_daily_transactions
+    ADD COLUMN currency VARCHAR(3) NOT NULL DEFAULT 'BRL',
+    DROP INDEX uk_metrics_daily,
+    ADD CONSTRAINT uk_metrics_daily UNIQUE (day, category_id, type, currency);
+
+DELETE FROM metrics_daily_transactions;
+
+UPDATE metrics_state SET last_transaction_id = 0;
@@ -0,0 +1,18 @@
+/* ========================================
+   RECURRENCE EVENTS: dados da transação gerada
+======================================== */
+ALTER TABLE recurrence_events
+    ADD COLUMN account_id BIGINT NULL,
+    ADD COLUMN name VARCHAR(80) NULL,
+    ADD COLUMN category VARCHAR(30) NULL,
+    ADD COLUMN type VARCHAR(10) NULL,
+    ADD COLUMN amount DECIMAL(10,2) NULL,
+    MODIFY frequency VARCHAR(10) NOT NULL,
+    ADD CONSTRAINT fk_recurrence_account FOREIGN KEY (account_id) REFERENCES accounts(id) ON DELETE CASCADE;
+
+/* varredura das recorrências vencidas em ordem de next_run */
+CREATE INDEX idx_recurrence_due ON recurrence_events(active, next_run);
+CREATE INDEX idx_recurrence_user ON recurrence_events(user_id);
+
+ALTER TABLE transactions
+    ADD CONSTRAINT fk_transactions_recurrence FOREIGN KEY (recurrence_id) REFERENCES recurrence_events(id) ON DELETE SET NULL;
@@ -0,0 +1,10 @@
+/* ========================================
+   PARCELAMENTOS: vencimento e liquidação
+======================================== */
+ALTER TABLE transactions
+    ADD COLUMN due_date DATE NULL,
+    ADD COLUMN settled BOOLEAN NOT NULL DEFAULT TRUE;
+
+CREATE INDEX idx_transactions_installment_group ON transactions(installment_group);
+CREATE INDEX idx_transactions_account_due ON transactions(account_id, due_date);
+CREATE INDEX idx_transactions_settlement ON transactions(settled, due_date);
@@ -0,0 +1,10 @@
+/* ========================================
+   BUDGETS: consumo mantido incrementalmente
+======================================== */
+ALTER TABLE budgets
+    ADD COLUMN category VARCHAR(30) NULL,
+    ADD COLUMN consumed_amount DECIMAL(10,2) NOT NULL DEFAULT 0.00,
+    ADD COLUMN alert_percent INT NOT NULL DEFAULT 80,
+    MODIFY category_id BIGINT NULL;
+
+CREATE UNIQUE INDEX uk_budgets_user_category_period ON budgets(user_id, category, year, month);
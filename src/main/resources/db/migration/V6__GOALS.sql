@@ -0,0 +1,7 @@
+/* ========================================
+   GOALS: status como texto, igual ao enum Java
+======================================== */
+ALTER TABLE goals
+    MODIFY status VARCHAR(10) NOT NULL DEFAULT 'ACTIVE';
+
+CREATE INDEX idx_goals_user ON goals(user_id);
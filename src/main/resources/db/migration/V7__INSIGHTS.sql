@@ -0,0 +1,18 @@
+/* ========================================
+   INSIGHTS: tipo, execução de origem e checkpoint do job
+======================================== */
+ALTER TABLE insights
+    ADD COLUMN kind VARCHAR(30) NULL,
+    ADD COLUMN run_id BIGINT NULL;
+
+CREATE INDEX idx_insights_user_created ON insights(user_id, created_at);
+CREATE INDEX idx_insights_run_user ON insights(run_id, user_id);
+
+CREATE TABLE IF NOT EXISTS insight_job_runs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    reference_month DATE NOT NULL,
+    last_user_id BIGINT NOT NULL DEFAULT 0,
+    status VARCHAR(10) NOT NULL,
+    started_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP NULL
+);
@@ -0,0 +1,48 @@
+/* ========================================
+   CATEGORIES: categorias do usuário substituem o enum CategoryTransactions
+======================================== */
+ALTER TABLE categories
+    MODIFY type VARCHAR(10) NOT NULL;
+
+CREATE INDEX idx_categories_user ON categories(user_id);
+
+/* categorias padrão do sistema (user_id nulo) */
+INSERT INTO categories (user_id, name, type)
+SELECT NULL, v.name, 'EXPENSE'
+FROM (
+    SELECT 'MORADIA' AS name UNION ALL SELECT 'TRANSPORTE' UNION ALL SELECT 'ALIMENTACAO'
+    UNION ALL SELECT 'RESTAURANTES' UNION ALL SELECT 'DELIVERY' UNION ALL SELECT 'PARCELAS'
+    UNION ALL SELECT 'JUROS_MULTAS' UNION ALL SELECT 'TARIFAS_BANCARIAS' UNION ALL SELECT 'EMPRESTIMOS'
+    UNION ALL SELECT 'MATERIAIS_ESCRITORIO' UNION ALL SELECT 'SOFTWARES' UNION ALL SELECT 'CURSOS_TREINAMENTOS'
+    UNION ALL SELECT 'ROUPAS' UNION ALL SELECT 'BELEZA' UNION ALL SELECT 'HIGIENE'
+    UNION ALL SELECT 'PLANO_SAUDE' UNION ALL SELECT 'CONSULTAS' UNION ALL SELECT 'FARMACIA'
+    UNION ALL SELECT 'CINEMA' UNION ALL SELECT 'SHOWS' UNION ALL SELECT 'VIAGENS' UNION ALL SELECT 'STREAMING'
+    UNION ALL SELECT 'MENSALIDADE_ESCOLAR' UNION ALL SELECT 'CURSOS_ONLINE' UNION ALL SELECT 'LIVROS'
+    UNION ALL SELECT 'PRESENTES' UNION ALL SELECT 'DOACOES'
+    UNION ALL SELECT 'ALIMENTACAO_PET' UNION ALL SELECT 'VETERINARIO'
+) v
+WHERE NOT EXISTS (SELECT 1 FROM categories c WHERE c.user_id IS NULL AND c.name = v.name);
+
+/* recorrências e orçamentos passam a apontar para categories */
+ALTER TABLE recurrence_events
+    ADD COLUMN category_id BIGINT NULL,
+    ADD CONSTRAINT fk_recurrence_category FOREIGN KEY (category_id) REFERENCES categories(id) ON DELETE SET NULL;
+
+UPDATE recurrence_events r
+JOIN categories c ON c.user_id IS NULL AND c.name = r.category
+SET r.category_id = c.id;
+
+ALTER TABLE recurrence_events DROP COLUMN category;
+
+UPDATE budgets b
+JOIN categories c ON c.user_id IS NULL AND c.name = b.category
+SET b.category_id = c.id;
+
+DELETE FROM budgets WHERE category_id IS NULL;
+
+/* troca o índice na mesma instrução: ele é o único que atende a FK de user_id */
+ALTER TABLE budgets
+    DROP INDEX uk_budgets_user_category_period,
+    DROP COLUMN category,
+    MODIFY category_id BIGINT NOT NULL,
+    ADD UNIQUE INDEX uk_budgets_user_category_period (user_id, category_id, year, month);
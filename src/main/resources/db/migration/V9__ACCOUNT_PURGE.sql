@@ -0,0 +1,18 @@
+/* ========================================
+   EXCLUSÃO DE CONTAS: soft delete + purge em lotes
+======================================== */
+ALTER TABLE accounts
+    ADD COLUMN deleted_at TIMESTAMP NULL;
+
+CREATE TABLE IF NOT EXISTS account_purges (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    account_id BIGINT NOT NULL UNIQUE,
+    user_id BIGINT NOT NULL,
+    status VARCHAR(10) NOT NULL,
+    deleted_rows BIGINT NOT NULL DEFAULT 0,
+    requested_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP NULL
+);
+
+CREATE INDEX idx_account_purges_status ON account_purges(status, updated_at);
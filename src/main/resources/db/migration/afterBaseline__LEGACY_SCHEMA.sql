@@ -0,0 +1,93 @@
+/* ========================================
+   CALLBACK afterBaseline: BANCOS DO ANTIGO ddl-auto=update
+   O Flyway só cria baseline num banco que já tem tabelas e nenhum histórico,
+   ou seja, o gerado pelas entidades antigas (users, accounts, transactions).
+   Leva esse schema ao formato de V2 (baseline-version=2) para que V3 em
+   diante rodem como num banco novo. A coluna transactions.category do enum
+   antigo fica: ServiceCategories a usa para preencher category_id.
+======================================== */
+
+/* tabelas de V1 que o ddl-auto não criava (transaction_attachments saiu em V2) */
+CREATE TABLE IF NOT EXISTS banks (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(30) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS categories (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NULL,
+    name VARCHAR(50) NOT NULL,
+    type ENUM('income','expense') NOT NULL,
+    icon VARCHAR(50) NULL,
+    color VARCHAR(20) NULL,
+
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE SET NULL
+);
+
+CREATE TABLE IF NOT EXISTS recurrence_events (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    frequency ENUM('daily','weekly','monthly','yearly') NOT NULL,
+    next_run DATE NOT NULL,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS goals (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    title VARCHAR(100) NOT NULL,
+    target_amount DECIMAL(10,2) NOT NULL,
+    saved_amount DECIMAL(10,2) NOT NULL DEFAULT 0.00,
+    deadline DATE NOT NULL,
+    status ENUM('active','completed','canceled') DEFAULT 'active',
+
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS budgets (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    limit_amount DECIMAL(10,2) NOT NULL,
+    month INT NOT NULL,
+    year INT NOT NULL,
+
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    FOREIGN KEY (category_id) REFERENCES categories(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS insights (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    title VARCHAR(150),
+    message TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+/* colunas de V1 que as entidades antigas não tinham */
+ALTER TABLE users
+    ADD COLUMN created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP;
+
+ALTER TABLE accounts
+    ADD COLUMN bank_id BIGINT NULL,
+    ADD CONSTRAINT fk_accounts_bank FOREIGN KEY (bank_id) REFERENCES banks(id) ON DELETE SET NULL;
+
+ALTER TABLE transactions
+    ADD COLUMN category_id BIGINT NULL,
+    ADD COLUMN installment_group VARCHAR(40) NULL,
+    ADD COLUMN installment_number INT NULL,
+    ADD COLUMN installment_total INT NULL,
+    ADD COLUMN recurrence_id BIGINT NULL,
+    ADD CONSTRAINT fk_transactions_category FOREIGN KEY (category_id) REFERENCES categories(id) ON DELETE SET NULL;
+
+/* índices de V1 (as FKs de user_id e account_id já têm os do Hibernate) */
+CREATE INDEX idx_accounts_bank ON accounts(bank_id);
+CREATE INDEX idx_transactions_category ON transactions(category_id);
+CREATE INDEX idx_transactions_account_created ON transactions(account_id, created);
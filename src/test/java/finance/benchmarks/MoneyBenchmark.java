@@ -0,0 +1,133 @@
+package finance.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import finance.domain.money.Money;
+
+/**
+ * Compara BigDecimal e Money nos dois laços quentes de saldo:
+ * rollup (somar os deltas de um lote por conta, como ServiceRecurrence e
+ * ServiceInstallments fazem) e reconciliation (aplicar os deltas aos saldos e
+ * conferir com o saldo esperado, como ServiceTransactions faz por transação).
+ *
+ * Rodar com o profiler de alocação:
+ *   mvn test-compile
+ *   java -cp target/test-classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *       finance.benchmarks.MoneyBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    @Param({ "10000" })
+    private int transactions;
+
+    @Param({ "50" })
+    private int accounts;
+
+    private long[] accountIds;
+    private BigDecimal[] decimalAmounts;
+    private Money[] moneyAmounts;
+    private BigDecimal[] decimalBalances;
+    private Money[] moneyBalances;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        accountIds = new long[transactions];
+        decimalAmounts = new BigDecimal[transactions];
+        moneyAmounts = new Money[transactions];
+        for (int i = 0; i < transactions; i++) {
+            long cents = random.nextLong(-50_000, 50_000);
+            accountIds[i] = random.nextInt(accounts);
+            decimalAmounts[i] = BigDecimal.valueOf(cents, 2);
+            moneyAmounts[i] = Money.ofCents(cents);
+        }
+        decimalBalances = new BigDecimal[accounts];
+        moneyBalances = new Money[accounts];
+        for (int a = 0; a < accounts; a++) {
+            decimalBalances[a] = BigDecimal.valueOf(1_000_000_00L, 2);
+            moneyBalances[a] = Money.ofCents(1_000_000_00L);
+        }
+    }
+
+    @Benchmark
+    public Map<Long, BigDecimal> rollupBigDecimal() {
+        Map<Long, BigDecimal> deltas = new HashMap<>();
+        for (int i = 0; i < transactions; i++) {
+            deltas.merge(accountIds[i], decimalAmounts[i], BigDecimal::add);
+        }
+        return deltas;
+    }
+
+    @Benchmark
+    public Map<Long, Money> rollupMoney() {
+        Map<Long, Money> deltas = new HashMap<>();
+        for (int i = 0; i < transactions; i++) {
+            deltas.merge(accountIds[i], moneyAmounts[i], Money::plus);
+        }
+        return deltas;
+    }
+
+    @Benchmark
+    public int reconcileBigDecimal() {
+        BigDecimal[] balances = decimalBalances.clone();
+        int rejected = 0;
+        for (int i = 0; i < transactions; i++) {
+            int a = (int) accountIds[i];
+            BigDecimal amount = decimalAmounts[i];
+            if (amount.signum() < 0 && balances[a].compareTo(amount.negate()) < 0) {
+                rejected++;
+                continue;
+            }
+            balances[a] = balances[a].add(amount);
+        }
+        return rejected;
+    }
+
+    @Benchmark
+    public int reconcileMoney() {
+        Money[] balances = moneyBalances.clone();
+        int rejected = 0;
+        for (int i = 0; i < transactions; i++) {
+            int a = (int) accountIds[i];
+            Money amount = moneyAmounts[i];
+            if (amount.isNegative() && balances[a].isLessThan(amount.negate())) {
+                rejected++;
+                continue;
+            }
+            balances[a] = balances[a].plus(amount);
+        }
+        return rejected;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MoneyBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,111 @@
+package finance.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import finance.domain.dto.transactions.TransactionResponseDTO;
+import finance.domain.money.Money;
+
+/**
+ * Custo de CPU e tamanho da resposta de uma listagem de transações em JSON,
+ * CBOR e Smile, com os mappers montados como em ContentNegotiationConfig.
+ * O tamanho do payload de cada formato é impresso no setup.
+ *
+ *   mvn test-compile
+ *   java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *       finance.benchmarks.SerializationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class SerializationBenchmark {
+
+    @Param({ "10000" })
+    private int rows;
+
+    private List<TransactionResponseDTO> payload;
+    private ObjectMapper json;
+    private ObjectMapper cbor;
+    private ObjectMapper smile;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        String[] categories = { "Alimentação", "Transporte", "Moradia", "Lazer", "Saúde", "Salário" };
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 8, 0);
+        payload = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            int category = random.nextInt(categories.length);
+            LocalDateTime created = start.plusMinutes(random.nextInt(525_600));
+            payload.add(new TransactionResponseDTO(
+                    (long) i + 1,
+                    (long) random.nextInt(1, 20),
+                    (long) category + 1,
+                    categories[category],
+                    "Compra " + (i % 500),
+                    Money.ofCents(random.nextLong(100, 500_000)),
+                    created,
+                    created));
+        }
+        json = Jackson2ObjectMapperBuilder.json().build();
+        cbor = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+        smile = Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build();
+
+        try {
+            System.out.printf("payload bytes: json=%d cbor=%d smile=%d%n",
+                    json.writeValueAsBytes(payload).length,
+                    cbor.writeValueAsBytes(payload).length,
+                    smile.writeValueAsBytes(payload).length);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Benchmark
+    public byte[] json() throws Exception {
+        return json.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public byte[] cbor() throws Exception {
+        return cbor.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public byte[] smile() throws Exception {
+        return smile.writeValueAsBytes(payload);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SerializationBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,66 @@
+package finance.config;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import finance.domain.acounts.AccountType;
+import finance.domain.dto.accounts.AccountResponseDTO;
+import finance.domain.money.Money;
+
+// mesmo payload em toda codificação: Money sai como número também em CBOR e Smile
+public class ContentNegotiationConfigTest {
+
+    private final AccountResponseDTO account = new AccountResponseDTO(1L, 42L, "Conta", AccountType.CONTA_CORRENTE,
+            Money.of(new BigDecimal("12.50")), "BRL", LocalDateTime.of(2026, 1, 2, 3, 4, 5), null, null, null, null);
+
+    @Test
+    void testCborKeepsMoneyAsNumber() throws Exception {
+        assertRoundTrip(mapper("cbor"));
+    }
+
+    @Test
+    void testSmileKeepsMoneyAsNumber() throws Exception {
+        assertRoundTrip(mapper("smile"));
+    }
+
+    @Test
+    void testJsonKeepsTwoDecimals() throws Exception {
+        String json = new Jackson2ObjectMapperBuilder().build().writeValueAsString(account);
+        Assertions.assertTrue(json.contains("\"balance\":12.50"), json);
+    }
+
+    private void assertRoundTrip(ObjectMapper mapper) throws Exception {
+        byte[] body = mapper.writeValueAsBytes(account);
+
+        JsonNode balance = mapper.readTree(body).get("balance");
+        Assertions.assertTrue(balance.isNumber(), balance.getNodeType().toString());
+        Assertions.assertEquals(0, new BigDecimal("12.50").compareTo(balance.decimalValue()));
+        Assertions.assertEquals(account, mapper.readValue(body, AccountResponseDTO.class));
+    }
+
+    private static ObjectMapper mapper(String format) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("builder", new Jackson2ObjectMapperBuilder());
+        List<HttpMessageConverter<?>> converters = new ArrayList<>();
+        new ContentNegotiationConfig(beans.getBeanProvider(Jackson2ObjectMapperBuilder.class))
+                .extendMessageConverters(converters);
+        return converters.stream()
+                .map(c -> (AbstractJackson2HttpMessageConverter) c)
+                .filter(c -> c.getSupportedMediaTypes().get(0).getSubtype().contains(format))
+                .findFirst()
+                .orElseThrow()
+                .getObjectMapper();
+    }
+}
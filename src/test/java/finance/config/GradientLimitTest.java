@@ -0,0 +1,55 @@
+package finance.config;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class GradientLimitTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void testRejectsAboveLimit() {
+        GradientLimit limit = new GradientLimit(2, 1, 10, 100);
+
+        Assertions.assertTrue(limit.tryAcquire());
+        Assertions.assertTrue(limit.tryAcquire());
+        Assertions.assertFalse(limit.tryAcquire());
+
+        limit.onComplete(10 * MS);
+        Assertions.assertTrue(limit.tryAcquire());
+    }
+
+    @Test
+    void testShrinksWhenLatencyGrows() {
+        GradientLimit limit = new GradientLimit(20, 2, 100, 100);
+        saturate(limit, 200, 10 * MS);
+        int healthy = limit.getLimit();
+
+        saturate(limit, 50, 100 * MS);
+
+        Assertions.assertTrue(limit.getLimit() < healthy,
+                "limite deveria cair de " + healthy + " com latência 10x maior, ficou " + limit.getLimit());
+    }
+
+    @Test
+    void testGrowsWhileLatencyIsStable() {
+        GradientLimit limit = new GradientLimit(10, 2, 100, 100);
+
+        saturate(limit, 200, 10 * MS);
+
+        Assertions.assertTrue(limit.getLimit() > 10);
+        Assertions.assertTrue(limit.getLimit() <= 100);
+    }
+
+    // mantém o limite ocupado e completa uma requisição por vez com a latência dada
+    private static void saturate(GradientLimit limit, int samples, long rtt) {
+        for (int i = 0; i < samples; i++) {
+            while (limit.tryAcquire()) {
+            }
+            limit.onComplete(rtt);
+        }
+        while (limit.getInFlight() > 0) {
+            limit.onComplete(0);
+        }
+    }
+}
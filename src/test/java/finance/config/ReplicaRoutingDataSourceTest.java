@@ -0,0 +1,137 @@
+package finance.config;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.sqlite.SQLiteConfig;
+import org.sqlite.SQLiteDataSource;
+
+import jakarta.persistence.EntityManager;
+
+// dois arquivos SQLite fazem o papel de primário e réplica; cada um responde com o próprio nome
+public class ReplicaRoutingDataSourceTest {
+
+    @TempDir
+    Path dir;
+
+    private ReplicaStickiness stickiness;
+    private DataSource routing;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stickiness = new ReplicaStickiness(60_000);
+        routing = ReplicaRoutingDataSource.routing(node("primary"), node("replica"), stickiness);
+
+        jdbc = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        authenticate(42L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testReadOnlyGoesToReplica() {
+        Assertions.assertEquals("replica", readOnly.execute(s -> whoAmI()));
+        Assertions.assertEquals("primary", readWrite.execute(s -> whoAmI()));
+        Assertions.assertEquals("primary", whoAmI());
+    }
+
+    @Test
+    void testStaysOnPrimaryAfterOwnWrite() {
+        stickiness.recordWrite(42L);
+
+        Assertions.assertEquals("primary", readOnly.execute(s -> whoAmI()));
+
+        authenticate(7L);
+        Assertions.assertEquals("replica", readOnly.execute(s -> whoAmI()));
+    }
+
+    // como na aplicação: JPA/Hibernate com o ReplicaAwareTransactionManager, não só JDBC puro
+    @Test
+    void testJpaReadOnlyGoesToReplica() {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(routing);
+        factory.setPackagesToScan("finance.config");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        // sem dialeto SQLite no classpath: só consultas nativas, sem ler metadados do banco
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.dialect", "org.hibernate.dialect.MySQLDialect",
+                "hibernate.boot.allow_jdbc_metadata_access", "false"));
+        factory.afterPropertiesSet();
+        try {
+            ReplicaAwareTransactionManager transactionManager = new ReplicaAwareTransactionManager(factory.getObject());
+            TransactionTemplate jpaReadOnly = new TransactionTemplate(transactionManager);
+            jpaReadOnly.setReadOnly(true);
+            TransactionTemplate jpaReadWrite = new TransactionTemplate(transactionManager);
+            EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(factory.getObject());
+
+            Assertions.assertEquals("replica", jpaReadOnly.execute(s -> whoAmI(entityManager)));
+            Assertions.assertEquals("primary", jpaReadWrite.execute(s -> whoAmI(entityManager)));
+
+            stickiness.recordWrite(42L);
+            Assertions.assertEquals("primary", jpaReadOnly.execute(s -> whoAmI(entityManager)));
+        } finally {
+            factory.destroy();
+        }
+    }
+
+    @Test
+    void testNoStickinessWithoutWindow() {
+        stickiness = new ReplicaStickiness(0);
+        stickiness.recordWrite(42L);
+
+        Assertions.assertFalse(stickiness.isSticky());
+    }
+
+    private String whoAmI() {
+        return jdbc.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static String whoAmI(EntityManager entityManager) {
+        return (String) entityManager.createNativeQuery("SELECT name FROM node").getSingleResult();
+    }
+
+    private DataSource node(String name) throws Exception {
+        Path file = Files.createFile(dir.resolve(name + ".db"));
+        SQLiteConfig config = new SQLiteConfig();
+        // permite Connection.setReadOnly depois de aberta, como num driver de servidor
+        config.setExplicitReadOnly(true);
+        SQLiteDataSource dataSource = new SQLiteDataSource(config);
+        dataSource.setUrl("jdbc:sqlite:" + file);
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("CREATE TABLE node (name TEXT)");
+        setup.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static void authenticate(Long userId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+    }
+}
@@ -0,0 +1,19 @@
+package finance.domain.budgets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import finance.domain.money.Money;
+
+public class BudgetTest {
+
+    @Test
+    void testAlertAmountRoundsUpToTheCent() {
+        // 80% de 10,01 = 8,008: o alerta só dispara a partir de 8,01, como na comparação exata de antes
+        Budget budget = new Budget(null, 1L, Money.ofCents(1001), 80, 1, 2026, Money.ZERO);
+        Assertions.assertEquals(Money.ofCents(801), budget.alertAmount());
+
+        budget.setAlertPercent(100);
+        Assertions.assertEquals(Money.ofCents(1001), budget.alertAmount());
+    }
+}
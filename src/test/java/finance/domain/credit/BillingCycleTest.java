@@ -0,0 +1,43 @@
+package finance.domain.credit;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class BillingCycleTest {
+
+    @Test
+    void testPurchaseUntilClosingDayStaysInMonth() {
+        BillingCycle cycle = BillingCycle.containing(LocalDate.of(2024, 3, 25), 25, 5);
+
+        Assertions.assertEquals(LocalDate.of(2024, 2, 26), cycle.start());
+        Assertions.assertEquals(LocalDate.of(2024, 3, 25), cycle.closing());
+        Assertions.assertEquals(LocalDate.of(2024, 4, 5), cycle.due());
+    }
+
+    @Test
+    void testPurchaseAfterClosingGoesToNextCycle() {
+        BillingCycle cycle = BillingCycle.containing(LocalDate.of(2024, 12, 26), 25, 5);
+
+        Assertions.assertEquals(LocalDate.of(2024, 12, 26), cycle.start());
+        Assertions.assertEquals(LocalDate.of(2025, 1, 25), cycle.closing());
+        Assertions.assertEquals(LocalDate.of(2025, 2, 5), cycle.due());
+    }
+
+    @Test
+    void testDueDayAfterClosingInSameMonth() {
+        BillingCycle cycle = BillingCycle.containing(LocalDate.of(2024, 6, 1), 3, 13);
+
+        Assertions.assertEquals(LocalDate.of(2024, 6, 3), cycle.closing());
+        Assertions.assertEquals(LocalDate.of(2024, 6, 13), cycle.due());
+    }
+
+    @Test
+    void testIsOpen() {
+        BillingCycle cycle = BillingCycle.forClosing(LocalDate.of(2024, 3, 25), 5);
+
+        Assertions.assertTrue(cycle.isOpen(LocalDate.of(2024, 3, 25)));
+        Assertions.assertFalse(cycle.isOpen(LocalDate.of(2024, 3, 26)));
+    }
+}
@@ -0,0 +1,51 @@
+package finance.domain.money;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class MoneyTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void testArithmetic() {
+        Money a = Money.of(new BigDecimal("10.25"));
+        Money b = Money.ofCents(75);
+
+        Assertions.assertEquals(Money.ofCents(1100), a.plus(b));
+        Assertions.assertEquals(Money.ofCents(950), a.minus(b));
+        Assertions.assertEquals(Money.ofCents(-75), b.negate());
+        Assertions.assertEquals(Money.ofCents(3075), a.times(3));
+        Assertions.assertTrue(b.isLessThan(a));
+    }
+
+    @Test
+    void testOverflow() {
+        Money max = Money.ofCents(Long.MAX_VALUE);
+
+        Assertions.assertThrows(ArithmeticException.class, () -> max.plus(Money.ofCents(1)));
+        Assertions.assertThrows(ArithmeticException.class, () -> Money.ofCents(Long.MIN_VALUE).negate());
+        Assertions.assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1e30")));
+    }
+
+    @Test
+    void testBigDecimalRoundTrip() {
+        Assertions.assertEquals(new BigDecimal("0.05"), Money.of(new BigDecimal("0.05")).toBigDecimal());
+        Assertions.assertEquals(new BigDecimal("-1.05"), Money.of(new BigDecimal("-1.05")).toBigDecimal());
+        Assertions.assertEquals(Money.ofCents(1002), Money.of(new BigDecimal("10.015")));
+        Assertions.assertEquals("-0.05", Money.ofCents(-5).toString());
+        Assertions.assertEquals("12.30", Money.ofCents(1230).toString());
+    }
+
+    @Test
+    void testJsonKeepsDecimalFormat() throws Exception {
+        Assertions.assertEquals("12.30", mapper.writeValueAsString(Money.ofCents(1230)));
+        Assertions.assertEquals(Money.ofCents(1230), mapper.readValue("12.3", Money.class));
+        Assertions.assertEquals(Money.ofCents(500), mapper.readValue("5", Money.class));
+        Assertions.assertEquals(Money.ofCents(199), mapper.readValue("\"1.99\"", Money.class));
+    }
+}
@@ -0,0 +1,106 @@
+package finance.services;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import finance.domain.dto.goals.GoalProjectionDTO;
+import finance.domain.goals.GoalChangedEvent;
+import finance.domain.transactions.TransactionsChangedEvent;
+
+public class GoalProjectionCacheTest {
+
+    private final GoalProjectionCache cache = new GoalProjectionCache(60_000, 100);
+
+    @Test
+    void testConcurrentCallsShareOneSimulation() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        try {
+            Future<GoalProjectionDTO> leader = pool.submit(() -> cache.get(1L, 10L, () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                await(release);
+                return projection(10L);
+            }));
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            Future<GoalProjectionDTO> follower = pool.submit(() -> cache.get(1L, 10L, () -> {
+                calls.incrementAndGet();
+                return projection(10L);
+            }));
+            // outra chave não espera pela simulação em andamento
+            GoalProjectionDTO other = pool.submit(() -> cache.get(2L, 20L, () -> projection(20L)))
+                    .get(5, TimeUnit.SECONDS);
+            Assertions.assertEquals(20L, other.goalId());
+
+            Thread.sleep(100);
+            release.countDown();
+
+            Assertions.assertSame(leader.get(5, TimeUnit.SECONDS), follower.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(1, calls.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void testFailureIsNotCached() {
+        Assertions.assertThrows(IllegalStateException.class, () -> cache.get(1L, 10L, () -> {
+            throw new IllegalStateException("falha");
+        }));
+        Assertions.assertEquals(10L, cache.get(1L, 10L, () -> projection(10L)).goalId());
+    }
+
+    @Test
+    void testTransactionsChangedDropsOnlyThatUser() {
+        GoalProjectionDTO first = cache.get(1L, 10L, () -> projection(10L));
+        GoalProjectionDTO kept = cache.get(2L, 20L, () -> projection(20L));
+
+        cache.onTransactionsChanged(new TransactionsChangedEvent(1L));
+
+        Assertions.assertNotSame(first, cache.get(1L, 10L, () -> projection(10L)));
+        Assertions.assertSame(kept, cache.get(2L, 20L, () -> projection(20L)));
+    }
+
+    @Test
+    void testGoalChangedDropsOnlyThatGoal() {
+        GoalProjectionDTO first = cache.get(1L, 10L, () -> projection(10L));
+        GoalProjectionDTO kept = cache.get(1L, 11L, () -> projection(11L));
+
+        cache.onGoalChanged(new GoalChangedEvent(1L, 10L));
+
+        Assertions.assertNotSame(first, cache.get(1L, 10L, () -> projection(10L)));
+        Assertions.assertSame(kept, cache.get(1L, 11L, () -> projection(11L)));
+    }
+
+    @Test
+    void testExpiredEntryIsRecomputed() {
+        GoalProjectionCache shortLived = new GoalProjectionCache(0, 100);
+        GoalProjectionDTO first = shortLived.get(1L, 10L, () -> projection(10L));
+        Assertions.assertNotSame(first, shortLived.get(1L, 10L, () -> projection(10L)));
+    }
+
+    private static GoalProjectionDTO projection(Long goalId) {
+        return new GoalProjectionDTO(goalId, 0.5, 12, 1000, 24, BigDecimal.ONE, BigDecimal.TEN,
+                BigDecimal.ONE, BigDecimal.TEN, BigDecimal.TEN);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package finance.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class GoalProjectionSimulatorTest {
+
+    private final GoalProjectionSimulator simulator = new GoalProjectionSimulator();
+
+    @AfterEach
+    void tearDown() {
+        simulator.shutdown();
+    }
+
+    @Test
+    void testConstantIncomeAlwaysReachesTarget() {
+        GoalProjectionSimulator.Result result = simulator.simulate(new double[] { 100 }, 10, 0, 1000, 20_000, 42L);
+
+        Assertions.assertEquals(1.0, result.probability());
+        Assertions.assertEquals(1000.0, result.p50(), 1e-9);
+    }
+
+    @Test
+    void testConstantLossNeverReachesTarget() {
+        GoalProjectionSimulator.Result result = simulator.simulate(new double[] { -50 }, 12, 100, 1000, 20_000, 42L);
+
+        Assertions.assertEquals(0.0, result.probability());
+    }
+
+    @Test
+    void testSymmetricHistoryGivesPartialProbability() {
+        GoalProjectionSimulator.Result result = simulator.simulate(new double[] { -100, 100 }, 24, 0, 200, 100_000, 7L);
+
+        Assertions.assertTrue(result.probability() > 0.2 && result.probability() < 0.8);
+        Assertions.assertTrue(result.p10() <= result.p50() && result.p50() <= result.p90());
+    }
+
+    @Test
+    void testNoHistoryKeepsSavedAmount() {
+        GoalProjectionSimulator.Result result = simulator.simulate(new double[0], 6, 500, 400, 1_000, 1L);
+
+        Assertions.assertEquals(1.0, result.probability());
+        Assertions.assertEquals(500.0, result.mean(), 1e-9);
+    }
+}
@@ -0,0 +1,61 @@
+package finance.services;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import finance.domain.insights.InsightType;
+import finance.domain.transactions.CategoryTransactions;
+
+public class InsightAccumulatorTest {
+
+    private static final YearMonth REFERENCE = YearMonth.of(2026, 9);
+
+    @Test
+    void testCategorySpike() {
+        InsightAccumulator accumulator = new InsightAccumulator(REFERENCE);
+        accumulator.add(CategoryTransactions.DELIVERY.name(), "ifood", new BigDecimal("100.00"), REFERENCE.minusMonths(1));
+        accumulator.add(CategoryTransactions.DELIVERY.name(), "ifood", new BigDecimal("300.00"), REFERENCE);
+
+        List<InsightAccumulator.Finding> findings = accumulator.findings();
+
+        Assertions.assertEquals(1, findings.size());
+        Assertions.assertEquals(InsightType.CATEGORY_SPIKE, findings.get(0).kind());
+    }
+
+    @Test
+    void testRecurringSubscription() {
+        InsightAccumulator accumulator = new InsightAccumulator(REFERENCE);
+        for (int i = 0; i < 3; i++) {
+            accumulator.add(CategoryTransactions.STREAMING.name(), "Netflix ", new BigDecimal("39.90"), REFERENCE.minusMonths(i));
+        }
+
+        List<InsightAccumulator.Finding> findings = accumulator.findings();
+
+        Assertions.assertTrue(findings.stream().anyMatch(f -> f.kind() == InsightType.RECURRING_SUBSCRIPTION));
+    }
+
+    @Test
+    void testUnusualFee() {
+        InsightAccumulator accumulator = new InsightAccumulator(REFERENCE);
+        accumulator.add(CategoryTransactions.TARIFAS_BANCARIAS.name(), "tarifa", new BigDecimal("10.00"), REFERENCE.minusMonths(1));
+        accumulator.add(CategoryTransactions.TARIFAS_BANCARIAS.name(), "tarifa", new BigDecimal("80.00"), REFERENCE);
+
+        List<InsightAccumulator.Finding> findings = accumulator.findings();
+
+        Assertions.assertEquals(1, findings.size());
+        Assertions.assertEquals(InsightType.UNUSUAL_FEE, findings.get(0).kind());
+    }
+
+    @Test
+    void testResetDropsPreviousUser() {
+        InsightAccumulator accumulator = new InsightAccumulator(REFERENCE);
+        accumulator.add(CategoryTransactions.JUROS_MULTAS.name(), "multa", new BigDecimal("50.00"), REFERENCE);
+        accumulator.reset();
+
+        Assertions.assertTrue(accumulator.findings().isEmpty());
+    }
+}
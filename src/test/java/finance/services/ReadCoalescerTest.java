@@ -0,0 +1,83 @@
+package finance.services;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ReadCoalescerTest {
+
+    private final DataVersionTable versions = Mockito.mock(DataVersionTable.class);
+    private final ReadCoalescer coalescer = new ReadCoalescer(versions, new SimpleMeterRegistry());
+
+    @Test
+    void testConcurrentReadsShareOneExecution() throws Exception {
+        Mockito.when(versions.current(1L)).thenReturn(7L);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<String>> leader = pool.submit(() -> coalescer.execute(1L, "accounts", () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                await(release);
+                return List.of("a");
+            }));
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            Future<List<String>> follower = pool.submit(() -> coalescer.execute(1L, "accounts", () -> {
+                calls.incrementAndGet();
+                return List.of("b");
+            }));
+            // dá tempo do seguidor se juntar à execução em andamento
+            Thread.sleep(100);
+            release.countDown();
+
+            Assertions.assertEquals(List.of("a"), leader.get(5, TimeUnit.SECONDS));
+            Assertions.assertSame(leader.get(), follower.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(1, calls.get());
+            Assertions.assertEquals(0.5, coalescer.coalescedRatio());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void testNewVersionStartsNewExecution() {
+        Mockito.when(versions.current(1L)).thenReturn(1L, 2L);
+
+        Assertions.assertEquals("v1", coalescer.execute(1L, "accounts", () -> "v1"));
+        Assertions.assertEquals("v2", coalescer.execute(1L, "accounts", () -> "v2"));
+        Assertions.assertEquals(0.0, coalescer.coalescedRatio());
+    }
+
+    @Test
+    void testLeaderExceptionIsRethrown() {
+        Mockito.when(versions.current(1L)).thenReturn(1L);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> coalescer.execute(1L, "accounts", () -> {
+            throw new IllegalStateException("falha");
+        }));
+        // a chave é liberada mesmo com erro
+        Assertions.assertEquals("ok", coalescer.execute(1L, "accounts", () -> "ok"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
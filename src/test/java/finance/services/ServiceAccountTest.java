@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import finance.domain.acounts.Account;
 import finance.domain.acounts.AccountType;
 import finance.domain.dto.accounts.AccountCreateDTO;
+import finance.domain.money.Money;
 
 public class ServiceAccountTest {
 
@@ -21,7 +22,7 @@ public class ServiceAccountTest {
     @Test
     void testCreateAccount() {
 
-        Account account = new Account("nome",AccountType.CONTA_CONJUNTA, BigDecimal.ONE);
+        Account account = new Account("nome",AccountType.CONTA_CONJUNTA, Money.of(BigDecimal.ONE));
 
         AccountCreateDTO accountCreateDTO= new AccountCreateDTO(account);
     
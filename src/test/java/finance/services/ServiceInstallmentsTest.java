@@ -0,0 +1,80 @@
+package finance.services;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.LazyInitializationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import finance.domain.acounts.Account;
+import finance.domain.dto.installments.InstallmentResponseDTO;
+import finance.domain.money.Money;
+import finance.domain.transactions.Transaction;
+import finance.domain.transactions.TypeTransaction;
+import finance.exceptions.ResourceNotFoundException;
+import finance.repository.RepositoryAccount;
+import finance.repository.RepositoryTransactions;
+
+public class ServiceInstallmentsTest {
+
+    private final RepositoryTransactions transactionRepository = mock(RepositoryTransactions.class);
+    private final CategoryDictionary categoryDictionary = mock(CategoryDictionary.class);
+
+    private final ServiceInstallments service = new ServiceInstallments(mock(RepositoryAccount.class),
+            transactionRepository, mock(ServiceCategories.class), categoryDictionary,
+            mock(ServiceCreditCard.class), mock(ServiceBudgets.class), mock(DataVersionTable.class),
+            mock(ApplicationEventPublisher.class));
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(42L, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // como o proxy LAZY fora da sessão: só a id pode ser lida sem inicializar a conta
+    @Test
+    void testGroupIsReadWithoutWalkingTheAccount() {
+        Account account = mock(Account.class);
+        when(account.getId()).thenReturn(7L);
+        when(account.getUser()).thenThrow(new LazyInitializationException("could not initialize proxy - no Session"));
+        when(transactionRepository.findInstallmentGroup("g1", 42L))
+                .thenReturn(List.of(installment(1L, account, 1), installment(2L, account, 2)));
+
+        List<InstallmentResponseDTO> group = service.getInstallmentGroup("g1");
+
+        Assertions.assertEquals(List.of(1, 2), group.stream().map(InstallmentResponseDTO::installmentNumber).toList());
+        Assertions.assertEquals(7L, group.get(0).accountId());
+    }
+
+    // parcelamento de outro usuário não volta da consulta: 404, sem revelar que existe
+    @Test
+    void testGroupOfAnotherUserIsNotFound() {
+        when(transactionRepository.findInstallmentGroup("g1", 42L)).thenReturn(List.of());
+
+        Assertions.assertThrows(ResourceNotFoundException.class, () -> service.getInstallmentGroup("g1"));
+    }
+
+    private static Transaction installment(Long id, Account account, int number) {
+        Transaction t = new Transaction(id, account, null, "Compra (" + number + "/2)", TypeTransaction.EXPENSE,
+                Money.of(new BigDecimal("10.00")), LocalDateTime.now(), LocalDateTime.now());
+        t.setInstallmentGroup("g1");
+        t.setInstallmentNumber(number);
+        t.setInstallmentTotal(2);
+        return t;
+    }
+}